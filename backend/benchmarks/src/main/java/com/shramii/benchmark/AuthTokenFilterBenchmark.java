@@ -0,0 +1,81 @@
+package com.shramii.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shramii.model.User;
+import com.shramii.repository.UserRepository;
+import com.shramii.security.AuthTokenFilter;
+import com.shramii.security.JwtUtils;
+import com.shramii.security.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full per-request cost of JWT authentication: header parsing, token verification,
+ * principal lookup and SecurityContext population. Mongo is replaced by an in-memory stub.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthTokenFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private AuthTokenFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        User user = Fixtures.worker(new Random(Fixtures.SEED), "benchmark_worker");
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[] {UserRepository.class},
+                (proxy, method, args) -> method.getName().equals("findByUsername") ? Optional.of(user) : null);
+
+        UserPrincipalCache principalCache = new UserPrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "userRepository", userRepository);
+        ReflectionTestUtils.setField(principalCache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(principalCache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(principalCache, "maxSize", 10_000L);
+        ReflectionTestUtils.setField(principalCache, "ttl", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(principalCache, "redisEnabled", false);
+        ReflectionTestUtils.setField(principalCache, "redisTtl", Duration.ofSeconds(300));
+        ReflectionTestUtils.invokeMethod(principalCache, "init");
+
+        JwtUtils jwtUtils = Fixtures.jwtUtils(10_000);
+        filter = new AuthTokenFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtils", jwtUtils);
+        ReflectionTestUtils.setField(filter, "userPrincipalCache", principalCache);
+        authorization = "Bearer " + jwtUtils.generateTokenFromUsername(user.getUsername());
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public Object anonymousRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs");
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return request;
+    }
+}
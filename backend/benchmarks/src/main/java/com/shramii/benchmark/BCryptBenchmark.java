@@ -0,0 +1,37 @@
+package com.shramii.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BCryptBenchmark {
+
+    @Param({"10"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("password123");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("password123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("password123", hash);
+    }
+}
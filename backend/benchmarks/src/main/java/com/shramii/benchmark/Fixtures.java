@@ -0,0 +1,133 @@
+package com.shramii.benchmark;
+
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import com.shramii.security.JwtUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic test data shared by the benchmarks. Every generator takes a fixed seed,
+ * so runs on different machines and commits measure the same workload.
+ */
+final class Fixtures {
+
+    static final long SEED = 42L;
+
+    static final String JWT_SECRET = "shramii-benchmark-secret-key-for-jwt-token-generation-0123456789";
+
+    static final String[] TITLES = {
+            "Electrician", "Plumber", "Carpenter", "Welder", "Mason", "Painter", "Driver", "Security Guard",
+            "Warehouse Associate", "Forklift Operator", "Delivery Executive", "Housekeeping Staff", "Cook",
+            "Machine Operator", "Helper", "Technician", "Packer", "Tailor", "Nurse Assistant", "Store Keeper"
+    };
+
+    static final String[] SKILLS = {
+            "wiring", "plumbing", "carpentry", "welding", "masonry", "painting", "driving", "forklift",
+            "inventory", "packing", "cooking", "cleaning", "first aid", "security", "tiling", "fabrication",
+            "cnc", "lathe", "hvac", "solar installation", "two wheeler", "heavy vehicle", "stitching",
+            "customer service", "loading", "scaffolding", "plastering", "glazing", "gardening", "pest control"
+    };
+
+    static final String[] LOCATIONS = {
+            "Mumbai", "Pune", "Delhi", "Gurgaon", "Noida", "Bengaluru", "Hyderabad", "Chennai", "Kolkata",
+            "Ahmedabad", "Surat", "Jaipur", "Lucknow", "Indore", "Nagpur", "Thane", "Navi Mumbai", "Kochi"
+    };
+
+    private Fixtures() {}
+
+    static JwtUtils jwtUtils(long cacheMaxSize) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+        ReflectionTestUtils.setField(jwtUtils, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(jwtUtils, "init");
+        return jwtUtils;
+    }
+
+    static List<Job> jobs(int count) {
+        Random random = new Random(SEED);
+        List<Job> jobs = new ArrayList<>(count);
+        long now = 1_700_000_000_000L;
+        for (int i = 0; i < count; i++) {
+            jobs.add(job(random, "job-" + i, now - i * 60_000L));
+        }
+        return jobs;
+    }
+
+    static Job job(Random random, String id, long postedAt) {
+        Job job = new Job();
+        job.setId(id);
+        String title = pick(random, TITLES);
+        String location = pick(random, LOCATIONS);
+        job.setTitle(title + " - " + location);
+        job.setDescription("We are hiring an experienced " + title.toLowerCase()
+                + " for a site in " + location + ". Shift work, immediate joining, training provided.");
+        job.setEmployerId("employer-" + random.nextInt(500));
+        job.setLocation(location);
+        double minSalary = 10_000 + random.nextInt(20) * 1_000;
+        job.setMinSalary(minSalary);
+        job.setMaxSalary(minSalary + 5_000 + random.nextInt(10) * 1_000);
+        job.setCurrency("INR");
+        job.setSkills(skills(random, 2 + random.nextInt(4)));
+        job.setExperience(random.nextInt(5) + " years");
+        job.setEducation("10th pass");
+        job.setJobType(Job.JobType.values()[random.nextInt(Job.JobType.values().length)]);
+        job.setEmploymentType(Job.EmploymentType.ON_SITE);
+        job.setStatus(Job.Status.ACTIVE);
+        job.setBenefits(List.of("PF", "ESI", "Accommodation"));
+        job.setContactEmail("hr@example.com");
+        job.setContactPhone("+91-9800000000");
+        job.setViews(random.nextInt(10_000));
+        job.setApplications(random.nextInt(500));
+        job.setPostedAt(new Date(postedAt));
+        job.setDeadline(new Date(postedAt + 30L * 86_400_000L));
+        return job;
+    }
+
+    static List<User> workers(int count) {
+        Random random = new Random(SEED + 1);
+        List<User> workers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            workers.add(worker(random, "worker-" + i));
+        }
+        return workers;
+    }
+
+    static User worker(Random random, String id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(id);
+        user.setEmail(id + "@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8H5nqoJp2W1sP8w1yY0vWfK");
+        user.setFirstName("Worker");
+        user.setLastName(Integer.toString(random.nextInt(100_000)));
+        user.setRole(User.Role.WORKER);
+        user.setLocation(pick(random, LOCATIONS));
+        user.setSkills(skills(random, 1 + random.nextInt(6)));
+        user.setExpectedSalary(8_000 + random.nextInt(25) * 1_000);
+        user.setAvailable(true);
+        user.setActive(true);
+        user.setCreatedAt(new Date(1_700_000_000_000L));
+        return user;
+    }
+
+    static List<String> skills(Random random, int count) {
+        List<String> skills = new ArrayList<>(count);
+        while (skills.size() < count) {
+            String skill = pick(random, SKILLS);
+            if (!skills.contains(skill)) {
+                skills.add(skill);
+            }
+        }
+        return skills;
+    }
+
+    static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
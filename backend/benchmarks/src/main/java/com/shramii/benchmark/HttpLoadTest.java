@@ -0,0 +1,124 @@
+package com.shramii.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for a running backend: {@code concurrency} simulated
+ * clients each keep exactly one request in flight for the whole run. Unlike the JMH
+ * benchmarks it measures the server end to end, so run it once against a server started
+ * with virtual threads off and once with them on (see README).
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.shramii.benchmark.HttpLoadTest \
+ *     --url=http://localhost:8080/api/api/v1/jobs?size=20 --concurrency=1000 --duration=30 --warmup=10
+ * </pre>
+ */
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8080/api/api/v1/jobs?size=20"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "500"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        String token = options.get("token");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(60)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = builder.build();
+
+        System.out.printf("%s: %d clients, %ds warmup, %ds measured%n",
+                url, concurrency, warmup.toSeconds(), duration.toSeconds());
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Client> clients = new ArrayList<>(concurrency);
+        List<CompletableFuture<Void>> running = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Client simulated = new Client(client, request, measureFrom, measureUntil, errors);
+            clients.add(simulated);
+            running.add(simulated.run());
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+
+        long[] latencies = clients.stream().flatMapToLong(c -> c.latencies.stream().mapToLong(Long::longValue))
+                .sorted().toArray();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("requests   %d (%d errors)%n", latencies.length, errors.get());
+        System.out.printf("throughput %.1f req/s%n", latencies.length / seconds);
+        if (latencies.length > 0) {
+            System.out.printf("latency ms p50 %.1f  p95 %.1f  p99 %.1f  max %.1f%n",
+                    percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                    latencies[latencies.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    /** One simulated client; its callbacks run one after another, so the sample list needs no locking. */
+    private static final class Client {
+
+        private final HttpClient client;
+        private final HttpRequest request;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final AtomicLong errors;
+        private final List<Long> latencies = new ArrayList<>();
+
+        Client(HttpClient client, HttpRequest request, long measureFrom, long measureUntil, AtomicLong errors) {
+            this.client = client;
+            this.request = request;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            this.errors = errors;
+        }
+
+        CompletableFuture<Void> run() {
+            long sent = System.nanoTime();
+            if (sent >= measureUntil) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        long done = System.nanoTime();
+                        if (sent >= measureFrom && done <= measureUntil) {
+                            if (failure != null || response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            } else {
+                                latencies.add(done - sent);
+                            }
+                        }
+                        return null;
+                    })
+                    .thenCompose(ignored -> run());
+        }
+    }
+}
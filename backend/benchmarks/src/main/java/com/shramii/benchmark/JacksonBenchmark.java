@@ -0,0 +1,57 @@
+package com.shramii.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shramii.dto.AuthResponse;
+import com.shramii.dto.JobSummary;
+import com.shramii.model.Job;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Job job;
+    private List<Job> jobPage;
+    private List<JobSummary> summaryPage;
+    private AuthResponse authResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        job = Fixtures.jobs(1).get(0);
+        jobPage = Fixtures.jobs(20);
+        summaryPage = jobPage.stream().map(JobSummary::from).toList();
+        authResponse = new AuthResponse(
+                Fixtures.jwtUtils(0).generateTokenFromUsername("benchmark_worker"),
+                Fixtures.worker(new Random(Fixtures.SEED), "benchmark_worker"));
+    }
+
+    @Benchmark
+    public byte[] serializeJob() throws Exception {
+        return objectMapper.writeValueAsBytes(job);
+    }
+
+    @Benchmark
+    public byte[] serializeJobPage() throws Exception {
+        return objectMapper.writeValueAsBytes(jobPage);
+    }
+
+    @Benchmark
+    public byte[] serializeJobSummaryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(authResponse);
+    }
+}
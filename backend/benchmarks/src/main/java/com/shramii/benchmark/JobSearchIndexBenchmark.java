@@ -0,0 +1,63 @@
+package com.shramii.benchmark;
+
+import com.shramii.model.Job;
+import com.shramii.search.JobSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobSearchIndexBenchmark {
+
+    @Param({"100000"})
+    public int jobs;
+
+    private JobSearchIndex index;
+    private List<Job> catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = Fixtures.jobs(jobs);
+        index = new JobSearchIndex();
+        index.rebuild(catalog);
+    }
+
+    @Benchmark
+    public Page<Job> singleTerm() {
+        return index.search("welder", PageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public Page<Job> multiTerm() {
+        return index.search("electrician pune wiring", PageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public Page<Job> prefix() {
+        return index.search("forklift op", PageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public Page<Job> deepPage() {
+        return index.search("mumbai", PageRequest.of(50, 20));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public JobSearchIndex rebuild() {
+        JobSearchIndex fresh = new JobSearchIndex();
+        fresh.rebuild(catalog);
+        return fresh;
+    }
+}
@@ -0,0 +1,58 @@
+package com.shramii.benchmark;
+
+import com.shramii.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private JwtParser prebuiltParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = Fixtures.jwtUtils(10_000);
+        prebuiltParser = (JwtParser) ReflectionTestUtils.getField(jwtUtils, "jwtParser");
+        token = jwtUtils.generateTokenFromUsername("benchmark_worker");
+        jwtUtils.verifyJwtToken(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateTokenFromUsername("benchmark_worker");
+    }
+
+    /** Token already verified once: the steady state for a returning client. */
+    @Benchmark
+    public Claims verifyCached() {
+        return jwtUtils.verifyJwtToken(token);
+    }
+
+    /** First sighting of a token: one HMAC check with the shared parser. */
+    @Benchmark
+    public Claims verifyUncached() {
+        return prebuiltParser.parseClaimsJws(token).getBody();
+    }
+
+    /** Baseline: a fresh key and parser per call, twice per request, as the filter used to do. */
+    @Benchmark
+    public String verifyRebuildingParser() {
+        Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Fixtures.JWT_SECRET.getBytes())).build()
+                .parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Fixtures.JWT_SECRET.getBytes())).build()
+                .parseClaimsJws(token).getBody().getSubject();
+    }
+}
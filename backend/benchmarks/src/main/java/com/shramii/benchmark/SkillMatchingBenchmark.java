@@ -0,0 +1,55 @@
+package com.shramii.benchmark;
+
+import com.shramii.dto.WorkerSummary;
+import com.shramii.matching.SkillDictionary;
+import com.shramii.matching.SkillMatchingEngine;
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillMatchingBenchmark {
+
+    @Param({"300000"})
+    public int workers;
+
+    private SkillMatchingEngine engine;
+    private Job job;
+    private User worker;
+
+    @Setup
+    public void setUp() {
+        engine = new SkillMatchingEngine();
+        ReflectionTestUtils.setField(engine, "skillDictionary", new SkillDictionary());
+        List<User> pool = Fixtures.workers(workers);
+        pool.forEach(engine::indexWorker);
+        List<Job> jobs = Fixtures.jobs(50_000);
+        jobs.forEach(engine::indexJob);
+        job = jobs.get(0);
+        worker = pool.get(0);
+    }
+
+    @Benchmark
+    public List<SkillMatchingEngine.Match<WorkerSummary>> topWorkersForJob() {
+        return engine.topWorkersForJob(job, 20, null, true);
+    }
+
+    @Benchmark
+    public List<SkillMatchingEngine.Match<WorkerSummary>> topWorkersForJobInCity() {
+        return engine.topWorkersForJob(job, 20, job.getLocation(), true);
+    }
+
+    @Benchmark
+    public List<SkillMatchingEngine.Match<Job>> topJobsForWorker() {
+        return engine.topJobsForWorker(worker, 20, null, true);
+    }
+}
@@ -0,0 +1,136 @@
+package com.shramii.controller;
+
+import com.shramii.dto.ApplyRequest;
+import com.shramii.dto.StageUpdateRequest;
+import com.shramii.model.Application;
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import com.shramii.repository.ApplicationRepository;
+import com.shramii.service.ApplicationService;
+import com.shramii.service.JobDetailCache;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/v1")
+public class ApplicationController {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobDetailCache jobDetailCache;
+
+    @PostMapping("/jobs/{jobId}/applications")
+    public ResponseEntity<?> apply(
+            @PathVariable String jobId,
+            @Valid @RequestBody(required = false) ApplyRequest request,
+            @AuthenticationPrincipal User worker) {
+
+        try {
+            if (worker == null || worker.getRole() != User.Role.WORKER) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only workers can apply to jobs");
+            }
+            Optional<Job> job = jobDetailCache.findById(jobId);
+            if (job.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(applicationService.apply(job.get(), worker, request));
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("You have already applied to this job");
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error applying to job: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}/applications")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> getApplicationsForJob(
+            @PathVariable String jobId,
+            @RequestParam(required = false) Application.Stage stage,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User employer) {
+
+        try {
+            Optional<Job> job = jobDetailCache.findById(jobId);
+            if (job.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (employer == null || !employer.getId().equals(job.get().getEmployerId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Not your job posting");
+            }
+
+            Pageable pageable = pageable(page, size);
+            Page<Application> applications = stage != null
+                    ? applicationRepository.findByJobIdAndStage(jobId, stage, pageable)
+                    : applicationRepository.findByJobId(jobId, pageable);
+            return ResponseEntity.ok(applications);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching applications: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/applications")
+    public ResponseEntity<?> getMyApplications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User worker) {
+
+        try {
+            if (worker == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            return ResponseEntity.ok(applicationRepository.findByWorkerId(worker.getId(), pageable(page, size)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching applications: " + e.getMessage());
+        }
+    }
+
+    @PutMapping("/applications/{id}/stage")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> updateStage(
+            @PathVariable String id,
+            @Valid @RequestBody StageUpdateRequest request,
+            @AuthenticationPrincipal User employer) {
+
+        try {
+            Optional<Application> application = applicationRepository.findById(id);
+            if (application.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (employer == null || !employer.getId().equals(application.get().getEmployerId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Not your job posting");
+            }
+            return ResponseEntity.ok(applicationService.moveToStage(application.get(), request.getStage(),
+                    request.getNotes()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error updating application: " + e.getMessage());
+        }
+    }
+
+    private static Pageable pageable(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, 100)),
+                Sort.by(Sort.Direction.DESC, "appliedAt"));
+    }
+}
@@ -3,11 +3,17 @@ package com.shramii.controller;
 import com.shramii.dto.AuthResponse;
 import com.shramii.dto.LoginRequest;
 import com.shramii.dto.RegisterRequest;
+import com.shramii.mail.MailOutbox;
 import com.shramii.model.User;
 import com.shramii.repository.UserRepository;
 import com.shramii.security.JwtUtils;
+import com.shramii.security.PasswordHashingService;
+import com.shramii.service.TakenNameFilter;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -35,6 +41,12 @@ public class AuthController {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    MailOutbox mailOutbox;
+
+    @Autowired
+    TakenNameFilter takenNameFilter;
+
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
         try {
@@ -45,10 +57,11 @@ public class AuthController {
             SecurityContextHolder.getContext().setAuthentication(authentication);
             String jwt = jwtUtils.generateJwtToken(authentication);
 
-            User user = userRepository.findByUsername(loginRequest.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            User user = (User) authentication.getPrincipal();
 
             return ResponseEntity.ok(new AuthResponse(jwt, user));
+        } catch (PasswordHashingService.HashingSaturatedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body("Invalid username or password");
@@ -58,14 +71,17 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
         try {
-            if (userRepository.existsByUsername(registerRequest.getUsername())) {
-                return ResponseEntity.badRequest()
-                        .body("Error: Username is already taken!");
-            }
-
-            if (userRepository.existsByEmail(registerRequest.getEmail())) {
-                return ResponseEntity.badRequest()
-                        .body("Error: Email is already taken!");
+            // Names the filter has never seen go straight to the insert; the unique indexes still guard races.
+            if (takenNameFilter.mightBeTaken(registerRequest.getUsername(), registerRequest.getEmail())) {
+                if (userRepository.existsByUsername(registerRequest.getUsername())) {
+                    return ResponseEntity.badRequest()
+                            .body("Error: Username is already taken!");
+                }
+
+                if (userRepository.existsByEmail(registerRequest.getEmail())) {
+                    return ResponseEntity.badRequest()
+                            .body("Error: Email is already taken!");
+                }
             }
 
             // Create new user
@@ -76,20 +92,33 @@ public class AuthController {
             user.setFirstName(registerRequest.getFirstName());
             user.setLastName(registerRequest.getLastName());
             user.setRole(User.Role.valueOf(registerRequest.getRole()));
+            user.setLocation(registerRequest.getLocation());
+            if (user.getRole() == User.Role.WORKER) {
+                user.setSkills(registerRequest.getSkills());
+                if (registerRequest.getExpectedSalary() != null) {
+                    user.setExpectedSalary(registerRequest.getExpectedSalary());
+                }
+                user.setAvailable(true);
+            }
             user.setCreatedAt(new Date());
             user.setActive(true);
 
             User savedUser = userRepository.save(user);
+            mailOutbox.enqueue(savedUser.getEmail(), "Welcome to Shramii",
+                    "Hi " + (savedUser.getFirstName() != null ? savedUser.getFirstName() : savedUser.getUsername())
+                            + ",\n\nYour Shramii account is ready. Sign in as " + savedUser.getUsername()
+                            + " to get started.\n\nThe Shramii team");
 
-            // Generate JWT token
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(registerRequest.getUsername(), registerRequest.getPassword())
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            String jwt = jwtUtils.generateJwtToken(authentication);
+            // The password was just hashed above; issue the token directly instead of verifying it again.
+            String jwt = jwtUtils.generateTokenFromUsername(savedUser.getUsername());
 
             return ResponseEntity.ok(new AuthResponse(jwt, savedUser));
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.badRequest()
+                    .body(e.getMessage() != null && e.getMessage().contains("index: username")
+                            ? "Error: Username is already taken!" : "Error: Email is already taken!");
+        } catch (PasswordHashingService.HashingSaturatedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body("Error: Registration failed - " + e.getMessage());
@@ -101,4 +130,10 @@ public class AuthController {
         SecurityContextHolder.clearContext();
         return ResponseEntity.ok("Logout successful");
     }
+
+    private static ResponseEntity<?> tooManyRequests(PasswordHashingService.HashingSaturatedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,244 @@
+package com.shramii.controller;
+
+import com.shramii.model.StoredDocument;
+import com.shramii.model.User;
+import com.shramii.repository.ApplicationRepository;
+import com.shramii.repository.StoredDocumentRepository;
+import com.shramii.service.DocumentStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.UploadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/v1/documents")
+public class DocumentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentController.class);
+
+    private static final Pattern BYTE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    // Tomcat request attributes that hand the file to the connector's sendfile support.
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private DocumentStorageService documentStorageService;
+
+    @Autowired
+    private StoredDocumentRepository storedDocumentRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    /**
+     * Accepts a multipart upload with a single "file" part. The part is read straight off
+     * the request stream, so nothing is buffered in memory or spooled twice.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(HttpServletRequest request, @AuthenticationPrincipal User user) {
+        try {
+            if (user == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Login required");
+            }
+            FileUpload upload = new FileUpload();
+            upload.setFileSizeMax(documentStorageService.getMaxSize());
+            FileItemIterator parts = upload.getItemIterator(new ServletUploadContext(request));
+            while (parts.hasNext()) {
+                FileItemStream part = parts.next();
+                if (part.isFormField() || !"file".equals(part.getFieldName())) {
+                    continue;
+                }
+                // Some browsers send the client-side path; keep only the last segment.
+                String filename = part.getName() != null
+                        ? part.getName().substring(Math.max(part.getName().lastIndexOf('/'), part.getName().lastIndexOf('\\')) + 1)
+                        : null;
+                try (InputStream content = part.openStream()) {
+                    StoredDocument document = documentStorageService.store(
+                            content, filename, part.getContentType(), user.getId());
+                    return ResponseEntity.ok(document);
+                }
+            }
+            return ResponseEntity.badRequest().body("Missing file part");
+        } catch (DocumentStorageService.DocumentTooLargeException | FileUploadBase.FileSizeLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+        } catch (FileUploadBase.FileUploadIOException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getCause().getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error uploading document: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getDocument(@PathVariable String id, @AuthenticationPrincipal User user) {
+        Optional<StoredDocument> document = storedDocumentRepository.findById(id);
+        if (document.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!canRead(document.get(), user)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access denied");
+        }
+        return ResponseEntity.ok(document.get());
+    }
+
+    /**
+     * Streams the stored bytes, honouring a single "Range: bytes=" request. The file is
+     * passed to Tomcat's sendfile when the connector offers it and otherwise copied with
+     * {@link FileChannel#transferTo}, so the body never passes through a heap buffer of ours.
+     */
+    @GetMapping("/{id}/content")
+    public void download(@PathVariable String id, HttpServletRequest request, HttpServletResponse response,
+                         @AuthenticationPrincipal User user) throws IOException {
+
+        Optional<StoredDocument> document = storedDocumentRepository.findById(id);
+        if (document.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        if (!canRead(document.get(), user)) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Access denied");
+            return;
+        }
+
+        Path path = documentStorageService.pathOf(document.get());
+        if (!Files.isReadable(path)) {
+            logger.error("Stored file missing for document {}", id);
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = file.size();
+            long start = 0;
+            long end = length - 1;
+
+            String range = request.getHeader(HttpHeaders.RANGE);
+            if (range != null) {
+                Matcher matcher = BYTE_RANGE.matcher(range.trim());
+                if (matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                    if (matcher.group(1).isEmpty()) {
+                        start = Math.max(0, length - rangeValue(matcher.group(2)));
+                    } else {
+                        start = rangeValue(matcher.group(1));
+                        if (!matcher.group(2).isEmpty()) {
+                            end = Math.min(end, rangeValue(matcher.group(2)));
+                        }
+                    }
+                    if (start > end) {
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                        response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                        return;
+                    }
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+                // Multiple or malformed ranges fall back to the whole document.
+            }
+
+            long count = end - start + 1;
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setContentType(document.get().getContentType() != null
+                    ? document.get().getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setContentLengthLong(count);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(document.get().getFilename() != null ? document.get().getFilename() : id,
+                            StandardCharsets.UTF_8)
+                    .build().toString());
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                request.setAttribute(SENDFILE_FILENAME, path.toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (count > 0) {
+                long sent = file.transferTo(position, count, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                count -= sent;
+            }
+        } catch (IOException e) {
+            logger.debug("Download of document {} aborted: {}", id, e.getMessage());
+        }
+    }
+
+    // Owners can always read their documents; employers can read resumes attached to applications to their jobs.
+    private boolean canRead(StoredDocument document, User user) {
+        if (user == null) {
+            return false;
+        }
+        return user.getId().equals(document.getOwnerId())
+                || applicationRepository.existsByResumeIdAndEmployerId(document.getId(), user.getId());
+    }
+
+    // Positions past Long.MAX_VALUE are past any file: a start there is unsatisfiable, an end or suffix covers everything.
+    private static long rangeValue(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private record ServletUploadContext(HttpServletRequest request) implements UploadContext {
+
+        @Override
+        public String getCharacterEncoding() {
+            return request.getCharacterEncoding();
+        }
+
+        @Override
+        public String getContentType() {
+            return request.getContentType();
+        }
+
+        @Override
+        @Deprecated
+        public int getContentLength() {
+            return request.getContentLength();
+        }
+
+        @Override
+        public long contentLength() {
+            return request.getContentLengthLong();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return request.getInputStream();
+        }
+    }
+}
@@ -1,27 +1,39 @@
 package com.shramii.controller;
 
+import com.shramii.model.Job;
+import com.shramii.service.PlatformStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/home")
 public class HomeController {
 
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
     @GetMapping("/stats")
     public List<Map<String, String>> getStats() {
         return Arrays.asList(
-                Map.of("number", "10K+", "label", "Active Workers"),
-                Map.of("number", "5K+", "label", "Job Postings"),
-                Map.of("number", "95%", "label", "Success Rate"),
+                Map.of("number", formatCount(platformStatsService.getActiveWorkers()), "label", "Active Workers"),
+                Map.of("number", formatCount(platformStatsService.getActiveJobs()), "label", "Job Postings"),
+                Map.of("number", formatCount(platformStatsService.getApplications()), "label", "Applications"),
                 Map.of("number", "24/7", "label", "Support")
         );
     }
 
+    @GetMapping("/stats/job-types")
+    public Map<Job.JobType, Long> getJobTypeStats() {
+        return platformStatsService.getActiveJobsByType();
+    }
+
     @GetMapping("/features")
     public List<Map<String, String>> getFeatures() {
         return Arrays.asList(
@@ -45,4 +57,17 @@ public class HomeController {
                 "Security"
         );
     }
+
+    private static String formatCount(long count) {
+        if (count >= 1_000_000) {
+            return String.format(Locale.ROOT, "%.1fM", count / 1_000_000.0);
+        }
+        if (count >= 10_000) {
+            return (count / 1_000) + "K";
+        }
+        if (count >= 1_000) {
+            return String.format(Locale.ROOT, "%.1fK", count / 1_000.0);
+        }
+        return Long.toString(count);
+    }
 }
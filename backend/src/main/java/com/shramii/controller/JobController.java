@@ -1,18 +1,46 @@
 package com.shramii.controller;
 
+import com.shramii.dto.CursorPage;
+import com.shramii.dto.ImportReport;
+import com.shramii.dto.JobSummary;
+import com.shramii.dto.NearbyResult;
+import com.shramii.geo.Gazetteer;
 import com.shramii.model.Job;
+import com.shramii.model.User;
+import com.shramii.repository.JobCursor;
 import com.shramii.repository.JobRepository;
+import com.shramii.repository.ReactiveJobRepository;
+import com.shramii.search.JobFacetService;
+import com.shramii.search.JobSearchCriteria;
+import com.shramii.search.JobSearchIndex;
+import com.shramii.search.JobSuggestionIndex;
+import com.shramii.service.JobCounterService;
+import com.shramii.service.JobDataFormat;
+import com.shramii.service.JobDetailCache;
+import com.shramii.service.JobExportService;
+import com.shramii.service.JobImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -20,51 +48,179 @@ import java.util.Optional;
 @RequestMapping("/api/v1/jobs")
 public class JobController {
 
+    private static final double MAX_RADIUS_KM = 200;
+
+    private static final int MAX_STREAM_LIMIT = 10_000;
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     @Autowired
     private JobRepository jobRepository;
 
+    @Autowired
+    private ReactiveJobRepository reactiveJobRepository;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobFacetService jobFacetService;
+
+    @Autowired
+    private JobSuggestionIndex jobSuggestionIndex;
+
+    @Autowired
+    private JobCounterService jobCounterService;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @Autowired
+    private JobDetailCache jobDetailCache;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobExportService jobExportService;
+
     @GetMapping
     public ResponseEntity<?> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "postedAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
-            @RequestParam(required = false) String location,
-            @RequestParam(required = false) String jobType,
-            @RequestParam(required = false) String search) {
+            JobSearchCriteria criteria) {
 
         try {
             Sort sort = sortDir.equalsIgnoreCase("desc") ?
                     Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
             Pageable pageable = PageRequest.of(page, size, sort);
-            Page<Job> jobs;
-
-            if (search != null && !search.isEmpty()) {
-                jobs = jobRepository.findByTitleContainingIgnoreCase(search, pageable);
-            } else if (location != null && !location.isEmpty()) {
-                jobs = jobRepository.findByLocationContainingIgnoreCase(location, pageable);
-            } else if (jobType != null && !jobType.isEmpty()) {
-                jobs = jobRepository.findByJobType(Job.JobType.valueOf(jobType), pageable);
+            Page<JobSummary> jobs;
+
+            // Any filter combination is answered in one pass over the in-memory index.
+            if (criteria.isEmpty()) {
+                jobs = jobRepository.findByStatus(Job.Status.ACTIVE, pageable, JobSummary.class);
             } else {
-                jobs = jobRepository.findByStatus(Job.Status.ACTIVE, pageable);
+                jobs = jobSearchIndex.search(criteria, pageable).map(JobSummary::from);
+            }
+
+            return ResponseEntity.ok(jobs);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching jobs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Same filters as GET /jobs, streamed as NDJSON. Criteria on fields Mongo can match exactly
+     * stream straight from a cursor that only advances as fast as the client reads; free text,
+     * location and skills are answered from the in-memory index, as GET /jobs does.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<JobSummary> streamJobs(
+            @RequestParam(defaultValue = "postedAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "1000") int limit,
+            JobSearchCriteria criteria) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        int max = Math.max(1, Math.min(limit, MAX_STREAM_LIMIT));
+        if (criteria.hasTextFilters()) {
+            return Flux.fromIterable(jobSearchIndex.search(criteria, PageRequest.of(0, max, sort)).getContent())
+                    .map(JobSummary::from);
+        }
+        return reactiveJobRepository.streamActive(criteria, sort, max);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<?> getJobFacets(JobSearchCriteria criteria) {
+        try {
+            return ResponseEntity.ok(jobFacetService.facets(criteria));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching facets: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) JobSuggestionIndex.Field field,
+            @RequestParam(defaultValue = "8") int limit) {
+
+        try {
+            return ResponseEntity.ok(jobSuggestionIndex.suggest(q, field, Math.max(1, Math.min(limit, 20))));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching suggestions: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyJobs(
+            @RequestParam(required = false) String near,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        try {
+            Point point = lat != null && lon != null ? new GeoJsonPoint(lon, lat) : gazetteer.locate(near);
+            if (point == null) {
+                return ResponseEntity.badRequest().body("Error fetching jobs: unknown location " + near);
             }
 
+            Distance radius = new Distance(Math.max(0.1, Math.min(radiusKm, MAX_RADIUS_KM)), Metrics.KILOMETERS);
+            Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, 100)));
+            List<NearbyResult<JobSummary>> jobs = jobRepository.findActiveNear(point, radius, pageable).getContent()
+                    .stream()
+                    .map(result -> new NearbyResult<>(result.getContent(), result.getDistance().getValue()))
+                    .toList();
             return ResponseEntity.ok(jobs);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error fetching jobs: " + e.getMessage());
         }
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<?> getJobFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        try {
+            int limit = Math.max(1, Math.min(size, 100));
+            boolean ascending = sortDir.equalsIgnoreCase("asc");
+            JobCursor after = cursor != null && !cursor.isEmpty() ? JobCursor.decode(cursor) : null;
+
+            // Fetch one extra row to learn whether another page exists without counting.
+            List<JobSummary> jobs = jobRepository.findActiveAfterCursor(after, ascending, limit + 1);
+            String nextCursor = null;
+            if (jobs.size() > limit) {
+                jobs = jobs.subList(0, limit);
+                JobSummary last = jobs.get(limit - 1);
+                Long postedAt = last.getPostedAt() != null ? last.getPostedAt().getTime() : null;
+                nextCursor = new JobCursor(postedAt, last.getId()).encode();
+            }
+
+            Long total = includeTotal ? jobRepository.countByStatus(Job.Status.ACTIVE) : null;
+            return ResponseEntity.ok(new CursorPage<>(jobs, nextCursor, total));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching jobs: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getJobById(@PathVariable String id) {
         try {
-            Optional<Job> job = jobRepository.findById(id);
+            Optional<Job> job = jobDetailCache.findById(id);
             if (job.isPresent()) {
-                Job jobEntity = job.get();
-                jobEntity.setViews(jobEntity.getViews() + 1);
-                jobRepository.save(jobEntity);
-                return ResponseEntity.ok(jobEntity);
+                jobCounterService.recordView(id);
+                return ResponseEntity.ok(jobCounterService.withPendingCounts(job.get()));
             } else {
                 return ResponseEntity.notFound().build();
             }
@@ -89,31 +245,53 @@ public class JobController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> importJobs(HttpServletRequest request, @AuthenticationPrincipal User employer) {
+        try {
+            // Read the raw body stream so the upload is never buffered as a whole.
+            JobDataFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(TEXT_CSV)
+                    ? JobDataFormat.CSV : JobDataFormat.NDJSON;
+            ImportReport report = jobImportService.importJobs(request.getInputStream(), format,
+                    employer != null ? employer.getId() : null);
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error importing jobs: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> exportJobs(
+            @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal User employer) {
+
+        try {
+            if (employer == null) {
+                return ResponseEntity.badRequest().body("Error exporting jobs: no employer account");
+            }
+            JobDataFormat dataFormat = JobDataFormat.valueOf(format.toUpperCase(Locale.ROOT));
+            MediaType contentType = dataFormat == JobDataFormat.CSV ? TEXT_CSV : APPLICATION_NDJSON;
+            String filename = "jobs." + dataFormat.name().toLowerCase(Locale.ROOT);
+
+            StreamingResponseBody body = out -> jobExportService.export(employer.getId(), dataFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(contentType)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error exporting jobs: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('EMPLOYER')")
     public ResponseEntity<?> updateJob(@PathVariable String id, @RequestBody Job jobDetails) {
         try {
-            Optional<Job> jobOptional = jobRepository.findById(id);
-            if (jobOptional.isPresent()) {
-                Job job = jobOptional.get();
-
-                // Update fields
-                job.setTitle(jobDetails.getTitle());
-                job.setDescription(jobDetails.getDescription());
-                job.setLocation(jobDetails.getLocation());
-                job.setJobType(jobDetails.getJobType());
-                job.setMinSalary(jobDetails.getMinSalary());
-                job.setMaxSalary(jobDetails.getMaxSalary());
-                job.setSkills(jobDetails.getSkills());
-                job.setExperience(jobDetails.getExperience());
-                job.setEducation(jobDetails.getEducation());
-                job.setBenefits(jobDetails.getBenefits());
-                job.setContactEmail(jobDetails.getContactEmail());
-                job.setContactPhone(jobDetails.getContactPhone());
-                job.setDeadline(jobDetails.getDeadline());
-
-                Job updatedJob = jobRepository.save(job);
-                return ResponseEntity.ok(updatedJob);
+            // Only the editable fields are written; a full save would overwrite flushed view/application counts.
+            Optional<Job> updatedJob = jobRepository.updateDetails(id, jobDetails);
+            if (updatedJob.isPresent()) {
+                return ResponseEntity.ok(updatedJob.get());
             } else {
                 return ResponseEntity.notFound().build();
             }
@@ -0,0 +1,119 @@
+package com.shramii.controller;
+
+import com.shramii.dto.JobSummary;
+import com.shramii.dto.MatchResult;
+import com.shramii.dto.NearbyResult;
+import com.shramii.dto.WorkerSummary;
+import com.shramii.matching.SkillMatchingEngine;
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import com.shramii.repository.UserRepository;
+import com.shramii.service.JobDetailCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/v1/matches")
+public class MatchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private static final double MAX_RADIUS_KM = 200;
+
+    @Autowired
+    private SkillMatchingEngine skillMatchingEngine;
+
+    @Autowired
+    private JobDetailCache jobDetailCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @GetMapping("/jobs/{jobId}/workers")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> getWorkersForJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "true") boolean withinSalary) {
+
+        try {
+            Optional<Job> job = jobDetailCache.findById(jobId);
+            if (job.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            List<MatchResult<WorkerSummary>> matches = skillMatchingEngine
+                    .topWorkersForJob(job.get(), clamp(limit), location, withinSalary).stream()
+                    .map(m -> new MatchResult<>(m.item(), m.score(), m.matchedSkills()))
+                    .toList();
+            return ResponseEntity.ok(matches);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error matching workers: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}/workers/nearby")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> getNearbyWorkersForJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        try {
+            Optional<Job> job = jobDetailCache.findById(jobId);
+            if (job.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            Point point = job.get().getCoordinates();
+            if (point == null) {
+                return ResponseEntity.badRequest().body("Error matching workers: job location is not geocoded");
+            }
+
+            Distance radius = new Distance(Math.max(0.1, Math.min(radiusKm, MAX_RADIUS_KM)), Metrics.KILOMETERS);
+            List<NearbyResult<WorkerSummary>> workers = userRepository
+                    .findAvailableWorkersNear(point, radius, clamp(limit)).getContent().stream()
+                    .map(result -> new NearbyResult<>(result.getContent(), result.getDistance().getValue()))
+                    .toList();
+            return ResponseEntity.ok(workers);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error matching workers: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/workers/{userId}/jobs")
+    public ResponseEntity<?> getJobsForWorker(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "true") boolean withinSalary) {
+
+        try {
+            Optional<User> worker = userRepository.findById(userId);
+            if (worker.isEmpty() || worker.get().getRole() != User.Role.WORKER) {
+                return ResponseEntity.notFound().build();
+            }
+
+            List<MatchResult<JobSummary>> matches = skillMatchingEngine
+                    .topJobsForWorker(worker.get(), clamp(limit), location, withinSalary).stream()
+                    .map(m -> new MatchResult<>(JobSummary.from(m.item()), m.score(), m.matchedSkills()))
+                    .toList();
+            return ResponseEntity.ok(matches);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error matching jobs: " + e.getMessage());
+        }
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,29 @@
+package com.shramii.dto;
+
+import jakarta.validation.constraints.Size;
+
+public class ApplyRequest {
+
+    @Size(max = 5000)
+    private String coverLetter;
+
+    private String resumeId;
+
+    public ApplyRequest() {}
+
+    public String getCoverLetter() {
+        return coverLetter;
+    }
+
+    public void setCoverLetter(String coverLetter) {
+        this.coverLetter = coverLetter;
+    }
+
+    public String getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(String resumeId) {
+        this.resumeId = resumeId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.shramii.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public class CursorPage<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.totalElements = totalElements;
+    }
+
+    // Getters and Setters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,85 @@
+package com.shramii.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+
+    private long received;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private List<RecordError> errors = new ArrayList<>();
+
+    public ImportReport() {}
+
+    public static class RecordError {
+
+        private long record;
+        private String message;
+
+        public RecordError() {}
+
+        public RecordError(long record, String message) {
+            this.record = record;
+            this.message = message;
+        }
+
+        public long getRecord() {
+            return record;
+        }
+
+        public void setRecord(long record) {
+            this.record = record;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+
+    // Getters and Setters
+    public long getReceived() {
+        return received;
+    }
+
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public List<RecordError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RecordError> errors) {
+        this.errors = errors;
+    }
+}
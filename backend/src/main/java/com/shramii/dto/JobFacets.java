@@ -0,0 +1,56 @@
+package com.shramii.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JobFacets {
+
+    private long total;
+    private Map<String, Integer> jobTypes = new LinkedHashMap<>();
+    private Map<String, Integer> employmentTypes = new LinkedHashMap<>();
+    private Map<String, Integer> locations = new LinkedHashMap<>();
+    private Map<String, Integer> salaryBands = new LinkedHashMap<>();
+
+    public JobFacets() {}
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Integer> getJobTypes() {
+        return jobTypes;
+    }
+
+    public void setJobTypes(Map<String, Integer> jobTypes) {
+        this.jobTypes = jobTypes;
+    }
+
+    public Map<String, Integer> getEmploymentTypes() {
+        return employmentTypes;
+    }
+
+    public void setEmploymentTypes(Map<String, Integer> employmentTypes) {
+        this.employmentTypes = employmentTypes;
+    }
+
+    public Map<String, Integer> getLocations() {
+        return locations;
+    }
+
+    public void setLocations(Map<String, Integer> locations) {
+        this.locations = locations;
+    }
+
+    public Map<String, Integer> getSalaryBands() {
+        return salaryBands;
+    }
+
+    public void setSalaryBands(Map<String, Integer> salaryBands) {
+        this.salaryBands = salaryBands;
+    }
+}
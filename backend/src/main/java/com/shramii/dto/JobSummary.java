@@ -0,0 +1,142 @@
+package com.shramii.dto;
+
+import com.shramii.model.Job;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Card-sized view of a {@link Job} for list endpoints. Repository queries returning this
+ * type only fetch these fields from Mongo; the full document is served by GET /jobs/{id}.
+ */
+public class JobSummary {
+
+    private String id;
+    private String title;
+    private String employerId;
+    private String location;
+    private double minSalary;
+    private double maxSalary;
+    private String currency;
+    private List<String> skills;
+    private Job.JobType jobType;
+    private Job.EmploymentType employmentType;
+    private Date postedAt;
+    private Date deadline;
+
+    public JobSummary() {}
+
+    public static JobSummary from(Job job) {
+        JobSummary summary = new JobSummary();
+        summary.setId(job.getId());
+        summary.setTitle(job.getTitle());
+        summary.setEmployerId(job.getEmployerId());
+        summary.setLocation(job.getLocation());
+        summary.setMinSalary(job.getMinSalary());
+        summary.setMaxSalary(job.getMaxSalary());
+        summary.setCurrency(job.getCurrency());
+        summary.setSkills(job.getSkills());
+        summary.setJobType(job.getJobType());
+        summary.setEmploymentType(job.getEmploymentType());
+        summary.setPostedAt(job.getPostedAt());
+        summary.setDeadline(job.getDeadline());
+        return summary;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getEmployerId() {
+        return employerId;
+    }
+
+    public void setEmployerId(String employerId) {
+        this.employerId = employerId;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public double getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(double minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(double maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public Job.JobType getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(Job.JobType jobType) {
+        this.jobType = jobType;
+    }
+
+    public Job.EmploymentType getEmploymentType() {
+        return employmentType;
+    }
+
+    public void setEmploymentType(Job.EmploymentType employmentType) {
+        this.employmentType = employmentType;
+    }
+
+    public Date getPostedAt() {
+        return postedAt;
+    }
+
+    public void setPostedAt(Date postedAt) {
+        this.postedAt = postedAt;
+    }
+
+    public Date getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Date deadline) {
+        this.deadline = deadline;
+    }
+}
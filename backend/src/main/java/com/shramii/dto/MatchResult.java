@@ -0,0 +1,41 @@
+package com.shramii.dto;
+
+public class MatchResult<T> {
+
+    private T item;
+    private double score;
+    private int matchedSkills;
+
+    public MatchResult() {}
+
+    public MatchResult(T item, double score, int matchedSkills) {
+        this.item = item;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+    }
+
+    // Getters and Setters
+    public T getItem() {
+        return item;
+    }
+
+    public void setItem(T item) {
+        this.item = item;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public int getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(int matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+}
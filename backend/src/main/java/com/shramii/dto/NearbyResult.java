@@ -0,0 +1,31 @@
+package com.shramii.dto;
+
+public class NearbyResult<T> {
+
+    private T item;
+    private double distanceKm;
+
+    public NearbyResult() {}
+
+    public NearbyResult(T item, double distanceKm) {
+        this.item = item;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters and Setters
+    public T getItem() {
+        return item;
+    }
+
+    public void setItem(T item) {
+        this.item = item;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
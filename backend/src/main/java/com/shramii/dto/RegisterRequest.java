@@ -4,6 +4,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.util.List;
+
 public class RegisterRequest {
     
     @NotBlank
@@ -33,6 +35,8 @@ public class RegisterRequest {
     private String role; // WORKER, EMPLOYER
     
     // Worker specific fields
+    private List<String> skills;
+    private Double expectedSalary;
     private String experience;
     private String education;
     private String bio;
@@ -110,6 +114,22 @@ public class RegisterRequest {
         this.role = role;
     }
     
+    public List<String> getSkills() {
+        return skills;
+    }
+    
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+    
+    public Double getExpectedSalary() {
+        return expectedSalary;
+    }
+    
+    public void setExpectedSalary(Double expectedSalary) {
+        this.expectedSalary = expectedSalary;
+    }
+    
     public String getExperience() {
         return experience;
     }
@@ -0,0 +1,32 @@
+package com.shramii.dto;
+
+import com.shramii.model.Application;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class StageUpdateRequest {
+
+    @NotNull
+    private Application.Stage stage;
+
+    @Size(max = 2000)
+    private String notes;
+
+    public StageUpdateRequest() {}
+
+    public Application.Stage getStage() {
+        return stage;
+    }
+
+    public void setStage(Application.Stage stage) {
+        this.stage = stage;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
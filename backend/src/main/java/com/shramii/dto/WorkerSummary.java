@@ -0,0 +1,77 @@
+package com.shramii.dto;
+
+import com.shramii.model.User;
+
+import java.util.List;
+
+public class WorkerSummary {
+
+    private String id;
+    private String firstName;
+    private String lastName;
+    private String location;
+    private List<String> skills;
+    private double expectedSalary;
+
+    public WorkerSummary() {}
+
+    public static WorkerSummary from(User user) {
+        WorkerSummary summary = new WorkerSummary();
+        summary.setId(user.getId());
+        summary.setFirstName(user.getFirstName());
+        summary.setLastName(user.getLastName());
+        summary.setLocation(user.getLocation());
+        summary.setSkills(user.getSkills());
+        summary.setExpectedSalary(user.getExpectedSalary());
+        return summary;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public double getExpectedSalary() {
+        return expectedSalary;
+    }
+
+    public void setExpectedSalary(double expectedSalary) {
+        this.expectedSalary = expectedSalary;
+    }
+}
@@ -0,0 +1,110 @@
+package com.shramii.geo;
+
+import com.shramii.search.TextNormalizer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Offline geocoder backed by a bundled city/PIN gazetteer. Free-text locations are
+ * resolved by a 6-digit PIN code when one is present, otherwise by the longest run of
+ * words naming a known place, preferring the last one ("Andheri East, Mumbai").
+ */
+@Component
+public class Gazetteer {
+
+    private static final Logger logger = LoggerFactory.getLogger(Gazetteer.class);
+
+    private static final Pattern PIN_CODE = Pattern.compile("(?<!\\d)(\\d{6})(?!\\d)");
+    private static final int MAX_NAME_WORDS = 3;
+
+    @Value("${geo.gazetteer:classpath:geo/gazetteer.csv}")
+    private Resource source;
+
+    private final Map<String, Place> byName = new HashMap<>();
+    private final Map<String, Place> byPinPrefix = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                Place place = new Place(columns[0].trim(), columns[2].trim(),
+                        new GeoJsonPoint(Double.parseDouble(columns[5].trim()), Double.parseDouble(columns[4].trim())));
+                byName.putIfAbsent(TextNormalizer.normalizePhrase(place.name()), place);
+                for (String alias : split(columns[1])) {
+                    byName.putIfAbsent(TextNormalizer.normalizePhrase(alias), place);
+                }
+                for (String prefix : split(columns[3])) {
+                    byPinPrefix.put(prefix, place);
+                }
+            }
+        }
+        logger.info("Loaded gazetteer with {} names and {} PIN prefixes", byName.size(), byPinPrefix.size());
+    }
+
+    public Optional<Place> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+
+        Matcher pin = PIN_CODE.matcher(location);
+        while (pin.find()) {
+            String code = pin.group(1);
+            for (int length = code.length(); length >= 3; length--) {
+                Place place = byPinPrefix.get(code.substring(0, length));
+                if (place != null) {
+                    return Optional.of(place);
+                }
+            }
+        }
+
+        String[] words = TextNormalizer.normalizePhrase(location).split(" ");
+        for (int length = Math.min(MAX_NAME_WORDS, words.length); length >= 1; length--) {
+            for (int start = words.length - length; start >= 0; start--) {
+                Place place = byName.get(String.join(" ", List.of(words).subList(start, start + length)));
+                if (place != null) {
+                    return Optional.of(place);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public GeoJsonPoint locate(String location) {
+        return resolve(location).map(Place::point).orElse(null);
+    }
+
+    private static List<String> split(String column) {
+        List<String> values = new ArrayList<>();
+        for (String value : column.split("\\|")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    public record Place(String name, String state, GeoJsonPoint point) {}
+}
@@ -0,0 +1,78 @@
+package com.shramii.geo;
+
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Geocodes documents saved before coordinates existed. New saves are handled by the
+ * geocoding listeners, so this only ever touches documents without a coordinates field.
+ */
+@Component
+public class GeocodingBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeocodingBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int jobs = backfill(Job.class, Job::getId, Job::getLocation);
+            int users = backfill(User.class, User::getId, User::getLocation);
+            if (jobs > 0 || users > 0) {
+                logger.info("Geocoded {} jobs and {} users", jobs, users);
+            }
+        } catch (Exception e) {
+            logger.error("Cannot backfill coordinates: {}", e.getMessage());
+        }
+    }
+
+    private <T> int backfill(Class<T> type, Function<T, String> id, Function<T, String> location) {
+        Query query = Query.query(Criteria.where("coordinates").exists(false).and("location").ne(null));
+        query.fields().include("location");
+
+        int updated = 0;
+        int pending = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+        try (Stream<T> documents = mongoTemplate.stream(query, type)) {
+            for (T document : (Iterable<T>) documents::iterator) {
+                Point point = gazetteer.locate(location.apply(document));
+                if (point == null) {
+                    continue;
+                }
+                bulk.updateOne(Query.query(Criteria.where("_id").is(id.apply(document))),
+                        Update.update("coordinates", point));
+                if (++pending == BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            updated += bulk.execute().getModifiedCount();
+        }
+        return updated;
+    }
+}
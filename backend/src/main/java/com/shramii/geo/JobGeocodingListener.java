@@ -0,0 +1,20 @@
+package com.shramii.geo;
+
+import com.shramii.model.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobGeocodingListener extends AbstractMongoEventListener<Job> {
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Job> event) {
+        Job job = event.getSource();
+        job.setCoordinates(gazetteer.locate(job.getLocation()));
+    }
+}
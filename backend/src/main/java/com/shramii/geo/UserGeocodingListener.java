@@ -0,0 +1,20 @@
+package com.shramii.geo;
+
+import com.shramii.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserGeocodingListener extends AbstractMongoEventListener<User> {
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<User> event) {
+        User user = event.getSource();
+        user.setCoordinates(gazetteer.locate(user.getLocation()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.shramii.mail;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes each message to a file in {@code mail.outbox.sink-dir} instead of sending it,
+ * for local runs and tests.
+ */
+@Component
+@ConditionalOnProperty(name = "mail.outbox.transport", havingValue = "file")
+public class FileMailTransport implements MailTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileMailTransport.class);
+
+    @Value("${mail.outbox.sink-dir:./mail-sink}")
+    private String sinkDir;
+
+    private Path dir;
+
+    @PostConstruct
+    void init() throws IOException {
+        dir = Paths.get(sinkDir).toAbsolutePath().normalize();
+        Files.createDirectories(dir);
+        logger.info("Mail is written to {} instead of being sent", dir);
+    }
+
+    @Override
+    public void send(List<SimpleMailMessage> messages) {
+        Map<Object, Exception> failed = new LinkedHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            Path file = dir.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID() + ".eml");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write("Date: " + new Date() + "\r\n");
+                writer.write("From: " + message.getFrom() + "\r\n");
+                writer.write("To: " + String.join(", ", message.getTo()) + "\r\n");
+                writer.write("Subject: " + message.getSubject() + "\r\n\r\n");
+                writer.write(message.getText() != null ? message.getText() : "");
+            } catch (IOException e) {
+                failed.put(message, e);
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new MailSendException(failed);
+        }
+    }
+}
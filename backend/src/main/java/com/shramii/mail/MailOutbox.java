@@ -0,0 +1,46 @@
+package com.shramii.mail;
+
+import com.shramii.model.OutboundEmail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+
+/**
+ * Entry point for outbound email. Enqueueing is one Mongo insert, so request threads never
+ * wait on SMTP; {@link MailOutboxWorker} delivers the messages in the background.
+ */
+@Service
+public class MailOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailOutbox.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Queues a message. Notifications are best-effort: a failed enqueue is logged rather
+     * than failing the caller's request.
+     */
+    public void enqueue(String to, String subject, String body) {
+        if (to == null || to.isBlank()) {
+            return;
+        }
+        Date now = new Date();
+        OutboundEmail email = new OutboundEmail();
+        email.setTo(to.trim());
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setStatus(OutboundEmail.Status.PENDING);
+        email.setNextAttemptAt(now);
+        email.setCreatedAt(now);
+        try {
+            mongoTemplate.insert(email);
+        } catch (Exception e) {
+            logger.error("Cannot enqueue email to {}: {}", to, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.shramii.mail;
+
+import com.shramii.model.OutboundEmail;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drains the email outbox on a small worker pool. Each worker claims a batch of due
+ * messages with a conditional update, so workers on any node never send the same message
+ * twice; a claim that is not settled before it expires (a crashed worker) becomes due
+ * again. Messages claimed together for the same recipient are coalesced into one email,
+ * delivery is capped at {@code rate-per-second} across the pool, and failures are retried
+ * with exponential backoff until {@code max-attempts}.
+ */
+@Component
+public class MailOutboxWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailOutboxWorker.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MailTransport mailTransport;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${mail.outbox.from:no-reply@shramii.com}")
+    private String from;
+
+    @Value("${mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.retry-base:30s}")
+    private Duration retryBase;
+
+    @Value("${mail.outbox.retry-max:1h}")
+    private Duration retryMax;
+
+    @Value("${mail.outbox.claim-ttl:5m}")
+    private Duration claimTtl;
+
+    private SimpleAsyncTaskExecutor executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private volatile boolean running = true;
+
+    // Earliest time the next message may go out; shared by all workers to enforce the rate cap.
+    private long nextSendSlot = System.nanoTime();
+
+    @Scheduled(initialDelayString = "${mail.outbox.poll-interval:5000}",
+            fixedDelayString = "${mail.outbox.poll-interval:5000}")
+    public void poll() {
+        // Top the pool up to its size; a worker keeps draining until the outbox has nothing due.
+        while (activeWorkers.get() < workers) {
+            activeWorkers.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    activeWorkers.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    // Workers spend most of their time waiting on Mongo and SMTP, so they run on virtual threads when enabled.
+    @PostConstruct
+    void init() {
+        executor = new SimpleAsyncTaskExecutor("mail-outbox-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setDaemon(true);
+        executor.setTaskTerminationTimeout(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        executor.close();
+    }
+
+    private void drain() {
+        try {
+            List<OutboundEmail> batch;
+            while (running && !(batch = claimBatch()).isEmpty()) {
+                deliver(batch);
+            }
+        } catch (Exception e) {
+            logger.error("Email outbox worker failed: {}", e.getMessage());
+        }
+    }
+
+    private List<OutboundEmail> claimBatch() {
+        Date now = new Date();
+        Criteria due = new Criteria().orOperator(
+                Criteria.where("status").is(OutboundEmail.Status.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(OutboundEmail.Status.SENDING).and("claimedUntil").lt(now));
+
+        Query candidates = Query.query(due).with(Sort.by("nextAttemptAt")).limit(batchSize);
+        candidates.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(candidates, OutboundEmail.class).stream()
+                .map(email -> (Object) email.getId()).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Re-checking the due condition makes the claim atomic per message when workers race.
+        String token = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(Criteria.where("_id").in(ids), due)),
+                new Update().set("status", OutboundEmail.Status.SENDING)
+                        .set("claimToken", token)
+                        .set("claimedUntil", new Date(now.getTime() + claimTtl.toMillis())),
+                OutboundEmail.class);
+        return mongoTemplate.find(Query.query(Criteria.where("claimToken").is(token)), OutboundEmail.class);
+    }
+
+    private void deliver(List<OutboundEmail> batch) {
+        Map<String, List<OutboundEmail>> byRecipient = new LinkedHashMap<>();
+        for (OutboundEmail email : batch) {
+            byRecipient.computeIfAbsent(email.getTo().toLowerCase(Locale.ROOT), to -> new ArrayList<>()).add(email);
+        }
+
+        Map<SimpleMailMessage, List<OutboundEmail>> messages = new LinkedHashMap<>();
+        for (List<OutboundEmail> emails : byRecipient.values()) {
+            messages.put(compose(emails), emails);
+        }
+
+        acquire(messages.size());
+        Map<Object, Exception> failed;
+        try {
+            mailTransport.send(new ArrayList<>(messages.keySet()));
+            failed = Map.of();
+        } catch (MailSendException e) {
+            failed = e.getFailedMessages().isEmpty() ? allFailed(messages.keySet(), e) : e.getFailedMessages();
+        } catch (Exception e) {
+            failed = allFailed(messages.keySet(), e);
+        }
+
+        List<Object> sent = new ArrayList<>();
+        for (Map.Entry<SimpleMailMessage, List<OutboundEmail>> message : messages.entrySet()) {
+            Exception error = failed.get(message.getKey());
+            for (OutboundEmail email : message.getValue()) {
+                if (error == null) {
+                    sent.add(email.getId());
+                } else {
+                    reschedule(email, error);
+                }
+            }
+        }
+        if (!sent.isEmpty()) {
+            mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(sent)),
+                    new Update().set("status", OutboundEmail.Status.SENT).set("sentAt", new Date())
+                            .unset("claimToken").unset("claimedUntil"),
+                    OutboundEmail.class);
+        }
+        logger.debug("Delivered {} of {} queued emails in {} messages", sent.size(), batch.size(), messages.size());
+    }
+
+    private SimpleMailMessage compose(List<OutboundEmail> emails) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(emails.get(0).getTo());
+        if (emails.size() == 1) {
+            message.setSubject(emails.get(0).getSubject());
+            message.setText(emails.get(0).getBody());
+            return message;
+        }
+        StringBuilder text = new StringBuilder();
+        for (OutboundEmail email : emails) {
+            if (text.length() > 0) {
+                text.append("\n\n----------------------------------------\n\n");
+            }
+            text.append(email.getSubject()).append("\n\n").append(email.getBody());
+        }
+        message.setSubject("You have " + emails.size() + " new notifications from Shramii");
+        message.setText(text.toString());
+        return message;
+    }
+
+    private void reschedule(OutboundEmail email, Exception error) {
+        int attempts = email.getAttempts() + 1;
+        Update update = new Update().set("attempts", attempts)
+                .set("lastError", String.valueOf(error.getMessage()))
+                .unset("claimToken").unset("claimedUntil");
+        if (attempts >= maxAttempts) {
+            update.set("status", OutboundEmail.Status.FAILED);
+            logger.warn("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getTo(), attempts, error.getMessage());
+        } else {
+            long delay = Math.min(retryMax.toMillis(), retryBase.toMillis() << Math.min(attempts - 1, 20));
+            delay += ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+            update.set("status", OutboundEmail.Status.PENDING)
+                    .set("nextAttemptAt", new Date(System.currentTimeMillis() + delay));
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(email.getId())
+                .and("claimToken").is(email.getClaimToken())), update, OutboundEmail.class);
+    }
+
+    private static Map<Object, Exception> allFailed(Iterable<SimpleMailMessage> messages, Exception error) {
+        Map<Object, Exception> failed = new LinkedHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failed.put(message, error);
+        }
+        return failed;
+    }
+
+    // Reserves send slots for a batch and waits until the first one is reached.
+    private void acquire(int permits) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long slot;
+        synchronized (this) {
+            long now = System.nanoTime();
+            slot = Math.max(nextSendSlot, now);
+            nextSendSlot = slot + intervalNanos * permits;
+        }
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+}
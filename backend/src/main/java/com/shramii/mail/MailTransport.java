@@ -0,0 +1,16 @@
+package com.shramii.mail;
+
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.util.List;
+
+/**
+ * Delivers a batch of messages. Failures are reported as a
+ * {@link org.springframework.mail.MailSendException} whose failed messages name the ones
+ * that did not go out; any other exception fails the whole batch.
+ */
+public interface MailTransport {
+
+    void send(List<SimpleMailMessage> messages) throws MailException;
+}
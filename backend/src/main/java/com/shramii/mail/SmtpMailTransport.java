@@ -0,0 +1,25 @@
+package com.shramii.mail;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sends through the configured SMTP server; a batch shares one connection.
+ */
+@Component
+@ConditionalOnProperty(name = "mail.outbox.transport", havingValue = "smtp", matchIfMissing = true)
+public class SmtpMailTransport implements MailTransport {
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Override
+    public void send(List<SimpleMailMessage> messages) {
+        mailSender.send(messages.toArray(new SimpleMailMessage[0]));
+    }
+}
@@ -0,0 +1,75 @@
+package com.shramii.matching;
+
+import com.shramii.search.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns normalized skill names into dense integer ids so skill sets can be stored
+ * as bitsets. Ids are never reused, which keeps existing vectors valid as skills are added.
+ */
+@Component
+public class SkillDictionary {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int size() {
+        return nextId.get();
+    }
+
+    public long[] intern(Collection<String> skills) {
+        return toVector(skills, true);
+    }
+
+    /**
+     * Builds a vector from known skills only; unknown skills cannot match anything anyway.
+     */
+    public long[] lookup(Collection<String> skills) {
+        return toVector(skills, false);
+    }
+
+    private long[] toVector(Collection<String> skills, boolean internNew) {
+        if (skills == null || skills.isEmpty()) {
+            return new long[0];
+        }
+        long[] bits = new long[0];
+        for (String skill : skills) {
+            String key = TextNormalizer.normalizePhrase(skill);
+            if (key.isEmpty()) {
+                continue;
+            }
+            Integer id = internNew ? ids.computeIfAbsent(key, k -> nextId.getAndIncrement()) : ids.get(key);
+            if (id == null) {
+                continue;
+            }
+            int word = id >>> 6;
+            if (word >= bits.length) {
+                long[] grown = new long[word + 1];
+                System.arraycopy(bits, 0, grown, 0, bits.length);
+                bits = grown;
+            }
+            bits[word] |= 1L << id;
+        }
+        return bits;
+    }
+
+    public static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public static int intersection(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,243 @@
+package com.shramii.matching;
+
+import com.shramii.dto.WorkerSummary;
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import com.shramii.repository.JobRepository;
+import com.shramii.repository.UserRepository;
+import com.shramii.search.TextNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Ranks workers for a job and jobs for a worker by skill overlap. Each side's skills are
+ * kept as bitsets over {@link SkillDictionary}, so scoring a candidate is a handful of
+ * popcounts; location and salary act as cheap pre-filters before scoring.
+ */
+@Component
+public class SkillMatchingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillMatchingEngine.class);
+
+    private static final double COVERAGE_WEIGHT = 0.8;
+    private static final double JACCARD_WEIGHT = 0.2;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Workers are held as summaries so the matching maps never retain password hashes.
+    private final ConcurrentHashMap<String, Profile<WorkerSummary>> workers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Profile<Job>> jobs = new ConcurrentHashMap<>();
+
+    // Ids changed by the listeners while a rebuild is loading; their live entries are newer than the loaded rows.
+    private volatile Set<String> workersChangedDuringRebuild;
+    private volatile Set<String> jobsChangedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${matching.rebuild-interval:600000}",
+            fixedDelayString = "${matching.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        workersChangedDuringRebuild = ConcurrentHashMap.newKeySet();
+        jobsChangedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            List<User> availableWorkers = userRepository.findAvailableWorkers();
+            List<Job> activeJobs = jobRepository.findByStatus(Job.Status.ACTIVE);
+
+            Map<String, Profile<WorkerSummary>> loadedWorkers = new HashMap<>();
+            for (User worker : availableWorkers) {
+                Profile<WorkerSummary> profile = workerProfile(worker);
+                if (profile != null) {
+                    loadedWorkers.put(worker.getId(), profile);
+                }
+            }
+            reconcile(workers, loadedWorkers, workersChangedDuringRebuild);
+
+            Map<String, Profile<Job>> loadedJobs = new HashMap<>();
+            for (Job job : activeJobs) {
+                Profile<Job> profile = jobProfile(job);
+                if (profile != null) {
+                    loadedJobs.put(job.getId(), profile);
+                }
+            }
+            reconcile(jobs, loadedJobs, jobsChangedDuringRebuild);
+            logger.debug("Matching engine loaded {} workers, {} jobs, {} skills",
+                    workers.size(), jobs.size(), skillDictionary.size());
+        } catch (Exception e) {
+            logger.error("Cannot rebuild matching engine: {}", e.getMessage());
+        } finally {
+            workersChangedDuringRebuild = null;
+            jobsChangedDuringRebuild = null;
+        }
+    }
+
+    public void indexWorker(User user) {
+        if (user.getId() != null) {
+            updateWorker(user.getId(), workerProfile(user));
+        }
+    }
+
+    public void removeWorker(String userId) {
+        updateWorker(userId, null);
+    }
+
+    public void indexJob(Job job) {
+        if (job.getId() != null) {
+            updateJob(job.getId(), jobProfile(job));
+        }
+    }
+
+    public void removeJob(String jobId) {
+        updateJob(jobId, null);
+    }
+
+    private void updateWorker(String userId, Profile<WorkerSummary> profile) {
+        workers.compute(userId, (id, current) -> {
+            Set<String> changed = workersChangedDuringRebuild;
+            if (changed != null) {
+                changed.add(id);
+            }
+            return profile;
+        });
+    }
+
+    private void updateJob(String jobId, Profile<Job> profile) {
+        jobs.compute(jobId, (id, current) -> {
+            Set<String> changed = jobsChangedDuringRebuild;
+            if (changed != null) {
+                changed.add(id);
+            }
+            return profile;
+        });
+    }
+
+    /**
+     * Swaps in the loaded profiles key by key. Both steps run inside the map's per-key compute,
+     * the same lock the listeners update under, so a concurrent change is either seen in
+     * {@code changed} or applied after the loaded row.
+     */
+    private static <T> void reconcile(ConcurrentHashMap<String, Profile<T>> live, Map<String, Profile<T>> loaded,
+                                      Set<String> changed) {
+        loaded.forEach((id, profile) -> live.compute(id, (key, current) -> changed.contains(key) ? current : profile));
+        for (String id : live.keySet()) {
+            live.computeIfPresent(id, (key, current) ->
+                    loaded.containsKey(key) || changed.contains(key) ? current : null);
+        }
+    }
+
+    private Profile<WorkerSummary> workerProfile(User user) {
+        if (user.getRole() != User.Role.WORKER || !user.isActive() || !user.isAvailable()) {
+            return null;
+        }
+        return new Profile<>(WorkerSummary.from(user), skillDictionary.intern(user.getSkills()),
+                normalizeLocation(user.getLocation()), user.getExpectedSalary());
+    }
+
+    private Profile<Job> jobProfile(Job job) {
+        if (job.getStatus() != Job.Status.ACTIVE) {
+            return null;
+        }
+        return new Profile<>(job, skillDictionary.intern(job.getSkills()),
+                normalizeLocation(job.getLocation()), job.getMaxSalary());
+    }
+
+    public List<Match<WorkerSummary>> topWorkersForJob(Job job, int limit, String location, boolean withinSalary) {
+        long[] required = skillDictionary.lookup(job.getSkills());
+        int requiredCount = SkillDictionary.cardinality(required);
+        if (requiredCount == 0) {
+            return List.of();
+        }
+
+        String locationFilter = normalizeLocation(location);
+        double maxSalary = job.getMaxSalary();
+        Predicate<Profile<WorkerSummary>> filter = worker ->
+                (locationFilter.isEmpty() || worker.location().contains(locationFilter))
+                        && (!withinSalary || maxSalary <= 0 || worker.salary() <= maxSalary);
+
+        return topK(workers.values(), required, requiredCount, limit, filter, true);
+    }
+
+    public List<Match<Job>> topJobsForWorker(User worker, int limit, String location, boolean withinSalary) {
+        long[] offered = skillDictionary.lookup(worker.getSkills());
+        int offeredCount = SkillDictionary.cardinality(offered);
+        if (offeredCount == 0) {
+            return List.of();
+        }
+
+        String locationFilter = normalizeLocation(location);
+        double expectedSalary = worker.getExpectedSalary();
+        long now = System.currentTimeMillis();
+        Predicate<Profile<Job>> filter = job ->
+                (job.item().getDeadline() == null || job.item().getDeadline().getTime() >= now)
+                        && (locationFilter.isEmpty() || job.location().contains(locationFilter))
+                        && (!withinSalary || expectedSalary <= 0 || job.salary() <= 0 || job.salary() >= expectedSalary);
+
+        return topK(jobs.values(), offered, offeredCount, limit, filter, false);
+    }
+
+    /**
+     * Coverage is measured against the job's requirements on both sides: for a job it is the
+     * share of its skills a worker has, for a worker the share of each job's skills they cover.
+     */
+    private static <T> List<Match<T>> topK(Iterable<Profile<T>> candidates, long[] query, int queryCount,
+                                           int limit, Predicate<Profile<T>> filter, boolean queryIsJob) {
+        Comparator<Match<T>> order = Comparator.comparingDouble(Match::score);
+        PriorityQueue<Match<T>> top = new PriorityQueue<>(Math.max(1, limit), order);
+
+        for (Profile<T> candidate : candidates) {
+            int common = SkillDictionary.intersection(query, candidate.skills());
+            if (common == 0 || !filter.test(candidate)) {
+                continue;
+            }
+            int candidateCount = candidate.skillCount();
+            int requiredCount = queryIsJob ? queryCount : candidateCount;
+            double coverage = (double) common / requiredCount;
+            double jaccard = (double) common / (queryCount + candidateCount - common);
+            Match<T> match = new Match<>(candidate.item(), COVERAGE_WEIGHT * coverage + JACCARD_WEIGHT * jaccard, common);
+
+            if (top.size() < limit) {
+                top.add(match);
+            } else if (match.score() > top.peek().score()) {
+                top.poll();
+                top.add(match);
+            }
+        }
+
+        List<Match<T>> ranked = new ArrayList<>(top);
+        ranked.sort(order.reversed());
+        return ranked;
+    }
+
+    private static String normalizeLocation(String location) {
+        return String.join(" ", TextNormalizer.tokenize(location));
+    }
+
+    public record Match<T>(T item, double score, int matchedSkills) {}
+
+    private record Profile<T>(T item, long[] skills, int skillCount, String location, double salary) {
+
+        Profile(T item, long[] skills, String location, double salary) {
+            this(item, skills, SkillDictionary.cardinality(skills), location, salary);
+        }
+    }
+}
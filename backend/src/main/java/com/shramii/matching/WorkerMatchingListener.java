@@ -0,0 +1,28 @@
+package com.shramii.matching;
+
+import com.shramii.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkerMatchingListener extends AbstractMongoEventListener<User> {
+
+    @Autowired
+    private SkillMatchingEngine skillMatchingEngine;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        skillMatchingEngine.indexWorker(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            skillMatchingEngine.removeWorker(id.toString());
+        }
+    }
+}
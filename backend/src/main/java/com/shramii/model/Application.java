@@ -0,0 +1,129 @@
+package com.shramii.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Document(collection = "applications")
+@CompoundIndex(name = "jobId_workerId", def = "{'jobId': 1, 'workerId': 1}", unique = true)
+@CompoundIndex(name = "jobId_stage_appliedAt", def = "{'jobId': 1, 'stage': 1, 'appliedAt': -1}")
+@CompoundIndex(name = "workerId_appliedAt", def = "{'workerId': 1, 'appliedAt': -1}")
+@CompoundIndex(name = "resumeId_employerId", def = "{'resumeId': 1, 'employerId': 1}")
+public class Application {
+
+    @Id
+    private String id;
+    private String jobId;
+    private String workerId;
+    private String employerId;
+    private String coverLetter;
+    private String resumeId;
+    private Stage stage;
+    private String notes;
+    private Date appliedAt;
+    private Date updatedAt;
+
+    /**
+     * Hiring pipeline stages in order. Applications only move forward, HIRED and
+     * REJECTED are final, and REJECTED is reachable from any open stage.
+     */
+    public enum Stage {
+        NEW,
+        SCREENING,
+        TEST_RESULT,
+        INTERVIEWING,
+        OFFER,
+        HIRED,
+        REJECTED;
+
+        public boolean canMoveTo(Stage next) {
+            if (this == HIRED || this == REJECTED || next == null || next == this) {
+                return false;
+            }
+            return next == REJECTED || next.ordinal() > ordinal();
+        }
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public void setWorkerId(String workerId) {
+        this.workerId = workerId;
+    }
+
+    public String getEmployerId() {
+        return employerId;
+    }
+
+    public void setEmployerId(String employerId) {
+        this.employerId = employerId;
+    }
+
+    public String getCoverLetter() {
+        return coverLetter;
+    }
+
+    public void setCoverLetter(String coverLetter) {
+        this.coverLetter = coverLetter;
+    }
+
+    public String getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(String resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public void setStage(Stage stage) {
+        this.stage = stage;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public Date getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(Date appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,12 +1,19 @@
 package com.shramii.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
 import java.util.List;
 
 @Document(collection = "jobs")
+@CompoundIndex(name = "status_postedAt_id", def = "{'status': 1, 'postedAt': -1, '_id': -1}")
+@CompoundIndex(name = "employerId_postedAt", def = "{'employerId': 1, 'postedAt': -1}")
+@CompoundIndex(name = "status_deadline", def = "{'status': 1, 'deadline': 1}")
 public class Job {
 
     @Id
@@ -15,6 +22,8 @@ public class Job {
     private String description;
     private String employerId;
     private String location;
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint coordinates;
     private double minSalary;
     private double maxSalary;
     private String currency;
@@ -51,6 +60,37 @@ public class Job {
         CLOSED
     }
 
+    public Job() {
+    }
+
+    /**
+     * Shallow copy; lists and the coordinates point are shared with {@code source}.
+     */
+    public Job(Job source) {
+        this.id = source.id;
+        this.title = source.title;
+        this.description = source.description;
+        this.employerId = source.employerId;
+        this.location = source.location;
+        this.coordinates = source.coordinates;
+        this.minSalary = source.minSalary;
+        this.maxSalary = source.maxSalary;
+        this.currency = source.currency;
+        this.skills = source.skills;
+        this.experience = source.experience;
+        this.education = source.education;
+        this.jobType = source.jobType;
+        this.employmentType = source.employmentType;
+        this.status = source.status;
+        this.benefits = source.benefits;
+        this.contactEmail = source.contactEmail;
+        this.contactPhone = source.contactPhone;
+        this.views = source.views;
+        this.applications = source.applications;
+        this.postedAt = source.postedAt;
+        this.deadline = source.deadline;
+    }
+
     // Getters and Setters
     public String getId() {
         return id;
@@ -92,6 +132,14 @@ public class Job {
         this.location = location;
     }
 
+    public GeoJsonPoint getCoordinates() {
+        return coordinates;
+    }
+
+    public void setCoordinates(GeoJsonPoint coordinates) {
+        this.coordinates = coordinates;
+    }
+
     public double getMinSalary() {
         return minSalary;
     }
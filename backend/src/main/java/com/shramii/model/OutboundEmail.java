@@ -0,0 +1,142 @@
+package com.shramii.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * A message waiting in the email outbox. Requests only insert these; delivery happens
+ * later on the outbox workers.
+ */
+@Document(collection = "email_outbox")
+@CompoundIndexes({
+    @CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}"),
+    @CompoundIndex(name = "claimToken", def = "{'claimToken': 1}", sparse = true)
+})
+public class OutboundEmail {
+
+    @Id
+    private String id;
+    private String to;
+    private String subject;
+    private String body;
+    private Status status;
+    private int attempts;
+    private Date nextAttemptAt;
+    private String claimToken;
+    private Date claimedUntil;
+    private String lastError;
+    private Date createdAt;
+
+    // Delivered messages are dropped after a week.
+    @Indexed(name = "sentAt_ttl", expireAfter = "7d")
+    private Date sentAt;
+
+    public enum Status {
+        PENDING,
+        SENDING,
+        SENT,
+        FAILED
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Date getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Date nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
+    public Date getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(Date claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(Date sentAt) {
+        this.sentAt = sentAt;
+    }
+}
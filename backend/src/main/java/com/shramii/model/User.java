@@ -1,6 +1,10 @@
 package com.shramii.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -9,18 +13,27 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 @Document(collection = "users")
 public class User implements UserDetails {
 
     @Id
     private String id;
+    @Indexed(unique = true)
     private String username;
+    @Indexed(unique = true)
     private String email;
     private String password;
     private String firstName;
     private String lastName;
     private Role role;
+    private String location;
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint coordinates;
+    private List<String> skills;
+    private double expectedSalary;
+    private boolean isAvailable;
     private boolean isActive;
     private Date createdAt;
 
@@ -86,6 +99,46 @@ public class User implements UserDetails {
         this.role = role;
     }
 
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public GeoJsonPoint getCoordinates() {
+        return coordinates;
+    }
+
+    public void setCoordinates(GeoJsonPoint coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public double getExpectedSalary() {
+        return expectedSalary;
+    }
+
+    public void setExpectedSalary(double expectedSalary) {
+        this.expectedSalary = expectedSalary;
+    }
+
+    public boolean isAvailable() {
+        return isAvailable;
+    }
+
+    public void setAvailable(boolean available) {
+        isAvailable = available;
+    }
+
     public boolean isActive() {
         return isActive;
     }
@@ -0,0 +1,70 @@
+package com.shramii.ratelimit;
+
+import com.shramii.model.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the first matching {@link RateLimitProperties.Policy} to each request. Runs
+ * after {@link com.shramii.security.AuthTokenFilter} so per-user policies can see who
+ * is calling; over-limit requests get 429 with a Retry-After header and never reach
+ * the controllers.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!properties.isEnabled() || "OPTIONS".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter.Route route = rateLimiter.match(request.getMethod(), path);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long wait = rateLimiter.tryAcquire(route, clientKey(route, request));
+        if (wait > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1))));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Too many requests, please retry later");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String clientKey(RateLimiter.Route route, HttpServletRequest request) {
+        if (route.key() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof User user) {
+                return "u:" + user.getId();
+            }
+        }
+        // Behind a proxy, server.forward-headers-strategy makes this the client's address.
+        return "ip:" + request.getRemoteAddr();
+    }
+}
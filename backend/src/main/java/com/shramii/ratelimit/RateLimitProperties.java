@@ -0,0 +1,128 @@
+package com.shramii.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route policies for {@link RateLimitFilter}, bound from {@code rate-limit.*}. Policies are
+ * checked in order and the first one whose path and method match applies.
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maxKeys = 100_000;
+    private boolean redisEnabled;
+    private List<Policy> policies = new ArrayList<>();
+
+    public enum KeyType {
+        IP,
+        USER // anonymous requests fall back to their IP
+    }
+
+    public static class Policy {
+
+        private String name;
+        private String path;
+        private List<String> methods = new ArrayList<>();
+        private KeyType key = KeyType.USER;
+        private int limit;
+        private Duration period = Duration.ofMinutes(1);
+        private Integer burst;
+
+        // Getters and Setters
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public KeyType getKey() {
+            return key;
+        }
+
+        public void setKey(KeyType key) {
+            this.key = key;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+        public Integer getBurst() {
+            return burst;
+        }
+
+        public void setBurst(Integer burst) {
+            this.burst = burst;
+        }
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(long maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public void setRedisEnabled(boolean redisEnabled) {
+        this.redisEnabled = redisEnabled;
+    }
+
+    public List<Policy> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(List<Policy> policies) {
+        this.policies = policies;
+    }
+}
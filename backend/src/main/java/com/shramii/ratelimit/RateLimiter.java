@@ -0,0 +1,176 @@
+package com.shramii.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Token buckets for {@link RateLimitFilter}. Each bucket is a single {@link AtomicLong}
+ * holding the time at which it would be full again (GCRA, equivalent to a token bucket
+ * with capacity {@code burst} refilled at {@code limit / period}), so a check is one CAS.
+ * Buckets live in a bounded Caffeine map, whose striped table keeps threads off each
+ * other's locks; idle buckets are full anyway, so evicting them loses nothing.
+ * With {@code rate-limit.redis-enabled} the same algorithm runs as a Lua script in Redis
+ * for limits shared by every node, falling back to the local bucket if Redis is down.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final String REDIS_KEY_PREFIX = "ratelimit:";
+
+    private static final long REDIS_RETRY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // KEYS[1] = bucket; ARGV = emission interval and burst tolerance in microseconds.
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local nextTat = tat + interval
+            local wait = nextTat - now - tolerance
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], nextTat, 'PX', math.ceil((nextTat - now) / 1000) + 1)
+            return 0
+            """, Long.class);
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private List<Route> routes;
+
+    private Cache<String, AtomicLong> buckets;
+
+    // While Redis is failing, skip it until redisRetryAt (a nanoTime) instead of paying its timeout on every request.
+    private volatile boolean redisFailing;
+
+    private volatile long redisRetryAt;
+
+    @PostConstruct
+    void init() {
+        List<Route> compiled = new ArrayList<>();
+        long maxTolerance = 0;
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            if (policy.getLimit() <= 0) {
+                throw new IllegalArgumentException("rate-limit policy " + policy.getName() + " needs a positive limit");
+            }
+            long interval = policy.getPeriod().toNanos() / policy.getLimit();
+            int burst = policy.getBurst() != null ? policy.getBurst() : policy.getLimit();
+            Set<String> methods = policy.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+            Route route = new Route(policy.getName(), PathPatternParser.defaultInstance.parse(policy.getPath()),
+                    methods, policy.getKey(), interval, interval * burst,
+                    Counter.builder("rate.limit.rejected").tag("policy", policy.getName()).register(meterRegistry));
+            compiled.add(route);
+            maxTolerance = Math.max(maxTolerance, route.toleranceNanos());
+        }
+        routes = List.copyOf(compiled);
+        buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(Duration.ofNanos(Math.max(maxTolerance, TimeUnit.SECONDS.toNanos(1))))
+                .build();
+        logger.info("Rate limiting {} routes ({} buckets)", routes.size(), properties.isRedisEnabled() ? "Redis" : "local");
+    }
+
+    public Route match(String method, String path) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if ((route.methods().isEmpty() || route.methods().contains(method)) && route.pattern().matches(container)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes one token for {@code client} on {@code route}.
+     *
+     * @return 0 when the request may proceed, otherwise nanoseconds until a token is available
+     */
+    public long tryAcquire(Route route, String client) {
+        String key = route.name() + ":" + client;
+        boolean useRedis = properties.isRedisEnabled() && (!redisFailing || System.nanoTime() - redisRetryAt >= 0);
+        long wait = useRedis ? acquireShared(route, key) : -1;
+        if (wait < 0) {
+            wait = acquireLocal(route, buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE)));
+        }
+        if (wait > 0) {
+            route.rejected().increment();
+        }
+        return wait;
+    }
+
+    private static long acquireLocal(Route route, AtomicLong bucket) {
+        long now = System.nanoTime();
+        while (true) {
+            long tat = bucket.get();
+            long start = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+            long next = start + route.intervalNanos();
+            long wait = next - now - route.toleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Returns -1 when Redis is unavailable so the caller can use the local bucket instead.
+    private long acquireShared(Route route, String key) {
+        try {
+            Long wait = redisTemplate.execute(GCRA_SCRIPT, List.of(REDIS_KEY_PREFIX + key),
+                    Long.toString(TimeUnit.NANOSECONDS.toMicros(route.intervalNanos())),
+                    Long.toString(TimeUnit.NANOSECONDS.toMicros(route.toleranceNanos())));
+            if (redisFailing) {
+                redisFailing = false;
+            }
+            return wait != null ? TimeUnit.MICROSECONDS.toNanos(wait) : -1;
+        } catch (Exception e) {
+            redisRetryAt = System.nanoTime() + REDIS_RETRY_NANOS;
+            redisFailing = true;
+            logger.warn("Rate limit check in Redis failed, using local buckets for a while: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    public record Route(String name, PathPattern pattern, Set<String> methods, RateLimitProperties.KeyType key,
+                        long intervalNanos, long toleranceNanos, Counter rejected) {}
+}
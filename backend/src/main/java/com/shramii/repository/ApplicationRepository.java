@@ -0,0 +1,19 @@
+package com.shramii.repository;
+
+import com.shramii.model.Application;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ApplicationRepository extends MongoRepository<Application, String> {
+
+    Page<Application> findByJobId(String jobId, Pageable pageable);
+
+    Page<Application> findByJobIdAndStage(String jobId, Application.Stage stage, Pageable pageable);
+
+    Page<Application> findByWorkerId(String workerId, Pageable pageable);
+
+    boolean existsByResumeIdAndEmployerId(String resumeId, String employerId);
+}
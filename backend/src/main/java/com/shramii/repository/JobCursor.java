@@ -0,0 +1,28 @@
+package com.shramii.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the (postedAt, id) keyset order used by cursor listings. Clients only
+ * ever see the opaque URL-safe encoding returned by {@link #encode()}. A null
+ * {@code postedAt} marks a position among jobs that were never stamped.
+ */
+public record JobCursor(Long postedAt, String id) {
+
+    public String encode() {
+        String raw = (postedAt != null ? postedAt.toString() : "") + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            String postedAt = raw.substring(0, separator);
+            return new JobCursor(postedAt.isEmpty() ? null : Long.valueOf(postedAt), raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
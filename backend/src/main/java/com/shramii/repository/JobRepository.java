@@ -11,13 +11,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface JobRepository extends MongoRepository<Job, String> {
+public interface JobRepository extends MongoRepository<Job, String>, JobRepositoryCustom {
 
     List<Job> findByEmployerId(String employerId);
 
     List<Job> findByStatus(Job.Status status);
 
-    Page<Job> findByStatus(Job.Status status, Pageable pageable);
+    <T> Page<T> findByStatus(Job.Status status, Pageable pageable, Class<T> type);
 
     @Query("{'status': 'ACTIVE', 'isFeatured': true}")
     List<Job> findFeaturedJobs();
@@ -66,7 +66,7 @@ public interface JobRepository extends MongoRepository<Job, String> {
 
     Page<Job> findByTitleContainingIgnoreCase(String title, Pageable pageable);
 
-    Page<Job> findByLocationContainingIgnoreCase(String location, Pageable pageable);
+    <T> Page<T> findByLocationContainingIgnoreCase(String location, Pageable pageable, Class<T> type);
 
-    Page<Job> findByJobType(Job.JobType jobType, Pageable pageable);
+    <T> Page<T> findByJobType(Job.JobType jobType, Pageable pageable, Class<T> type);
 }
@@ -0,0 +1,24 @@
+package com.shramii.repository;
+
+import com.shramii.dto.JobSummary;
+import com.shramii.model.Job;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface JobRepositoryCustom {
+
+    List<JobSummary> findActiveAfterCursor(JobCursor cursor, boolean ascending, int limit);
+
+    GeoResults<JobSummary> findActiveNear(Point point, Distance maxDistance, Pageable pageable);
+
+    /**
+     * Overwrites the employer-editable fields of a job in place, leaving fields such as the
+     * counters to their own writers, and notifies the Mongo listeners as {@code save} would.
+     */
+    Optional<Job> updateDetails(String id, Job details);
+}
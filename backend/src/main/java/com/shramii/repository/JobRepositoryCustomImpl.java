@@ -0,0 +1,111 @@
+package com.shramii.repository;
+
+import com.shramii.dto.JobSummary;
+import com.shramii.model.Job;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public List<JobSummary> findActiveAfterCursor(JobCursor cursor, boolean ascending, int limit) {
+        Criteria criteria = Criteria.where("status").is(Job.Status.ACTIVE);
+        if (cursor != null) {
+            // Seek past the last row of the previous page: (postedAt, id) strictly after the cursor.
+            // Mongo sorts a null postedAt below every date, and $gt/$lt never match null, so
+            // those rows need their own branch: last in descending order, first in ascending.
+            if (cursor.postedAt() == null) {
+                criteria = ascending
+                        ? criteria.orOperator(
+                                Criteria.where("postedAt").ne(null),
+                                Criteria.where("postedAt").is(null).and("id").gt(cursor.id()))
+                        : criteria.and("postedAt").is(null).and("id").lt(cursor.id());
+            } else {
+                Date postedAt = new Date(cursor.postedAt());
+                criteria = ascending
+                        ? criteria.orOperator(
+                                Criteria.where("postedAt").gt(postedAt),
+                                Criteria.where("postedAt").is(postedAt).and("id").gt(cursor.id()))
+                        : criteria.orOperator(
+                                Criteria.where("postedAt").lt(postedAt),
+                                Criteria.where("postedAt").is(postedAt).and("id").lt(cursor.id()),
+                                Criteria.where("postedAt").is(null));
+            }
+        }
+
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Query query = Query.query(criteria)
+                .with(Sort.by(direction, "postedAt").and(Sort.by(direction, "id")))
+                .limit(limit);
+        return mongoTemplate.query(Job.class).as(JobSummary.class).matching(query).all();
+    }
+
+    @Override
+    public GeoResults<JobSummary> findActiveNear(Point point, Distance maxDistance, Pageable pageable) {
+        // $geoNear uses the 2dsphere index on coordinates and returns results nearest first.
+        NearQuery near = NearQuery.near(point, maxDistance.getMetric())
+                .spherical(true)
+                .maxDistance(maxDistance)
+                .query(Query.query(Criteria.where("status").is(Job.Status.ACTIVE)))
+                .with(pageable);
+        return mongoTemplate.geoNear(near, Job.class, mongoTemplate.getCollectionName(Job.class), JobSummary.class);
+    }
+
+    @Override
+    public Optional<Job> updateDetails(String id, Job details) {
+        String collection = mongoTemplate.getCollectionName(Job.class);
+        // Same conversion listeners as save(), so the new location is geocoded.
+        eventPublisher.publishEvent(new BeforeConvertEvent<>(details, collection));
+
+        Update update = new Update()
+                .set("title", details.getTitle())
+                .set("description", details.getDescription())
+                .set("location", details.getLocation())
+                .set("coordinates", details.getCoordinates())
+                .set("jobType", details.getJobType())
+                .set("minSalary", details.getMinSalary())
+                .set("maxSalary", details.getMaxSalary())
+                .set("skills", details.getSkills())
+                .set("experience", details.getExperience())
+                .set("education", details.getEducation())
+                .set("benefits", details.getBenefits())
+                .set("contactEmail", details.getContactEmail())
+                .set("contactPhone", details.getContactPhone())
+                .set("deadline", details.getDeadline());
+        Job updated = mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id)), update,
+                FindAndModifyOptions.options().returnNew(true), Job.class);
+        if (updated == null) {
+            return Optional.empty();
+        }
+
+        // findAndModify skips the mapping events; the indexes and caches listen for AfterSaveEvent.
+        Document document = new Document();
+        mongoTemplate.getConverter().write(updated, document);
+        eventPublisher.publishEvent(new AfterSaveEvent<>(updated, document, collection));
+        return Optional.of(updated);
+    }
+}
@@ -0,0 +1,13 @@
+package com.shramii.repository;
+
+import com.shramii.model.Job;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Non-blocking read access to jobs for the streaming endpoints. Writes keep going through
+ * {@link JobRepository} so the Mongo event listeners still see every change.
+ */
+@Repository
+public interface ReactiveJobRepository extends ReactiveMongoRepository<Job, String>, ReactiveJobRepositoryCustom {
+}
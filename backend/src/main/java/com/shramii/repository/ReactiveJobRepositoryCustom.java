@@ -0,0 +1,11 @@
+package com.shramii.repository;
+
+import com.shramii.dto.JobSummary;
+import com.shramii.search.JobSearchCriteria;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveJobRepositoryCustom {
+
+    Flux<JobSummary> streamActive(JobSearchCriteria criteria, Sort sort, int limit);
+}
@@ -0,0 +1,65 @@
+package com.shramii.repository;
+
+import com.shramii.dto.JobSummary;
+import com.shramii.model.Job;
+import com.shramii.search.JobSearchCriteria;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class ReactiveJobRepositoryCustomImpl implements ReactiveJobRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Value("${job.stream.cursor-batch-size:100}")
+    private int cursorBatchSize;
+
+    /**
+     * Evaluates the criteria Mongo can match exactly as the in-memory search does; free text,
+     * location and skills are normalized by {@link com.shramii.search.JobSearchIndex} and are
+     * rejected here. The cursor is pulled one batch at a time as the subscriber requests more.
+     */
+    @Override
+    public Flux<JobSummary> streamActive(JobSearchCriteria criteria, Sort sort, int limit) {
+        if (criteria.hasTextFilters()) {
+            return Flux.error(new IllegalArgumentException("Text filters are answered by the search index"));
+        }
+
+        List<Criteria> filters = new ArrayList<>();
+        filters.add(Criteria.where("status").is(Job.Status.ACTIVE));
+        filters.add(new Criteria().orOperator(
+                Criteria.where("deadline").is(null), Criteria.where("deadline").gte(new Date())));
+        if (criteria.getJobType() != null) {
+            filters.add(Criteria.where("jobType").is(criteria.getJobType()));
+        }
+        if (criteria.getEmploymentType() != null) {
+            filters.add(Criteria.where("employmentType").is(criteria.getEmploymentType()));
+        }
+        if (criteria.getMinSalary() != null) {
+            filters.add(Criteria.where("maxSalary").gte(criteria.getMinSalary()));
+        }
+        if (criteria.getMaxSalary() != null) {
+            filters.add(Criteria.where("minSalary").lte(criteria.getMaxSalary()));
+        }
+        if (criteria.getPostedSince() != null) {
+            filters.add(Criteria.where("postedAt").gte(
+                    Date.from(criteria.getPostedSince().atStartOfDay(ZoneOffset.UTC).toInstant())));
+        }
+
+        Query query = Query.query(new Criteria().andOperator(filters))
+                .with(sort.and(Sort.by(Sort.Direction.DESC, "id")))
+                .limit(limit)
+                .cursorBatchSize(cursorBatchSize);
+        return reactiveMongoTemplate.query(Job.class).as(JobSummary.class).matching(query).all();
+    }
+}
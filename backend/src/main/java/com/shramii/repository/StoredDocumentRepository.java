@@ -0,0 +1,15 @@
+package com.shramii.repository;
+
+import com.shramii.model.StoredDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredDocumentRepository extends MongoRepository<StoredDocument, String> {
+
+    Optional<StoredDocument> findFirstByOwnerIdAndSha256(String ownerId, String sha256);
+
+    boolean existsByIdAndOwnerId(String id, String ownerId);
+}
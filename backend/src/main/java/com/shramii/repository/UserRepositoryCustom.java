@@ -0,0 +1,11 @@
+package com.shramii.repository;
+
+import com.shramii.dto.WorkerSummary;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+
+public interface UserRepositoryCustom {
+
+    GeoResults<WorkerSummary> findAvailableWorkersNear(Point point, Distance maxDistance, int limit);
+}
@@ -0,0 +1,31 @@
+package com.shramii.repository;
+
+import com.shramii.dto.WorkerSummary;
+import com.shramii.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public GeoResults<WorkerSummary> findAvailableWorkersNear(Point point, Distance maxDistance, int limit) {
+        Criteria available = Criteria.where("role").is(User.Role.WORKER)
+                .and("isAvailable").is(true)
+                .and("isActive").is(true);
+        NearQuery near = NearQuery.near(point, maxDistance.getMetric())
+                .spherical(true)
+                .maxDistance(maxDistance)
+                .query(Query.query(available))
+                .limit(limit);
+        return mongoTemplate.geoNear(near, User.class, mongoTemplate.getCollectionName(User.class), WorkerSummary.class);
+    }
+}
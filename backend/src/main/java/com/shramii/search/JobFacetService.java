@@ -0,0 +1,82 @@
+package com.shramii.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shramii.dto.JobFacets;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Facet counts for the job search filters. Counts come from one pass over
+ * {@link JobSearchIndex} and are cached per normalized query for a few seconds, so
+ * a page of users refining the same search shares a single computation.
+ */
+@Service
+public class JobFacetService {
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${search.facets.max-size:1000}")
+    private long maxSize;
+
+    @Value("${search.facets.ttl:15s}")
+    private Duration ttl;
+
+    @Value("${search.facets.salary-bands:10000,20000,30000,50000}")
+    private double[] salaryBounds;
+
+    @Value("${search.facets.location-limit:10}")
+    private int locationLimit;
+
+    private Cache<String, JobFacets> cache;
+
+    @PostConstruct
+    void init() {
+        salaryBounds = Arrays.stream(salaryBounds).sorted().distinct().toArray();
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobFacets");
+    }
+
+    public JobFacets facets(JobSearchCriteria criteria) {
+        return cache.get(cacheKey(criteria),
+                key -> jobSearchIndex.facets(criteria, salaryBounds, locationLimit));
+    }
+
+    // Equivalent queries (case, accents, word order of filters, skill order) share one entry.
+    private static String cacheKey(JobSearchCriteria criteria) {
+        StringBuilder key = new StringBuilder();
+        key.append(String.join(" ", TextNormalizer.tokenize(criteria.getSearch()))).append('|');
+        key.append(String.join(" ", new TreeSet<>(TextNormalizer.tokenize(criteria.getLocation())))).append('|');
+        key.append(criteria.getJobType()).append('|');
+        key.append(criteria.getEmploymentType()).append('|');
+        key.append(criteria.getMinSalary()).append('|');
+        key.append(criteria.getMaxSalary()).append('|');
+        List<String> skills = criteria.getSkills();
+        if (skills != null) {
+            TreeSet<String> normalized = new TreeSet<>();
+            for (String skill : skills) {
+                normalized.add(TextNormalizer.normalizePhrase(skill));
+            }
+            key.append(String.join(",", normalized));
+        }
+        key.append('|').append(criteria.getPostedSince());
+        return key.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.shramii.search;
+
+import com.shramii.model.Job;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters accepted by GET /api/v1/jobs. Every field is optional and all present
+ * fields must match; {@code skills} matches jobs requiring any of the given skills.
+ */
+public class JobSearchCriteria {
+
+    private String search;
+    private String location;
+    private Job.JobType jobType;
+    private Job.EmploymentType employmentType;
+    private Double minSalary;
+    private Double maxSalary;
+    private List<String> skills;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate postedSince;
+
+    public JobSearchCriteria() {}
+
+    public boolean isEmpty() {
+        return !hasText(search) && !hasText(location) && jobType == null && employmentType == null
+                && minSalary == null && maxSalary == null && (skills == null || skills.isEmpty())
+                && postedSince == null;
+    }
+
+    /**
+     * Whether any filter is matched on normalized text (free text, location tokens or skill
+     * names), which only {@link JobSearchIndex} evaluates.
+     */
+    public boolean hasTextFilters() {
+        return hasText(search) || hasText(location) || (skills != null && !skills.isEmpty());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // Getters and Setters
+    public String getSearch() {
+        return search;
+    }
+
+    public void setSearch(String search) {
+        this.search = search;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Job.JobType getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(Job.JobType jobType) {
+        this.jobType = jobType;
+    }
+
+    public Job.EmploymentType getEmploymentType() {
+        return employmentType;
+    }
+
+    public void setEmploymentType(Job.EmploymentType employmentType) {
+        this.employmentType = employmentType;
+    }
+
+    public Double getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Double minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public Double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Double maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public LocalDate getPostedSince() {
+        return postedSince;
+    }
+
+    public void setPostedSince(LocalDate postedSince) {
+        this.postedSince = postedSince;
+    }
+}
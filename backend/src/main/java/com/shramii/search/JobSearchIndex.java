@@ -0,0 +1,578 @@
+package com.shramii.search;
+
+import com.shramii.dto.JobFacets;
+import com.shramii.model.Job;
+import com.shramii.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index over ACTIVE jobs. Terms from title, skills, location and
+ * description are weighted per field; queries require every term to match, with the
+ * last term treated as a prefix so partially typed words still find results.
+ * <p>
+ * Location tokens, skills, job type and employment type also get exact-match postings,
+ * so a compound {@link JobSearchCriteria} is answered by driving from the smallest
+ * posting list and checking every other predicate against each candidate.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final float TITLE_WEIGHT = 4.0f;
+    private static final float SKILL_WEIGHT = 3.0f;
+    private static final float LOCATION_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float PREFIX_PENALTY = 0.5f;
+
+    private static final Comparator<ScoredJob> RELEVANCE = Comparator
+            .comparingDouble(ScoredJob::score)
+            .thenComparingLong(scored -> postedAt(scored.job()));
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Snapshot snapshot = new Snapshot();
+
+    // Changes seen while a rebuild is loading from Mongo, replayed onto the new snapshot; null values are removals.
+    private Map<String, Job> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.index.rebuild-interval:300000}",
+            fixedDelayString = "${search.index.rebuild-interval:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            rebuild(jobRepository.findByStatus(Job.Status.ACTIVE));
+        } catch (Exception e) {
+            logger.error("Cannot rebuild job search index: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public void rebuild(List<Job> jobs) {
+        Snapshot fresh = new Snapshot();
+        for (Job job : jobs) {
+            if (isIndexable(job)) {
+                fresh.add(job);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                for (Map.Entry<String, Job> change : changesDuringRebuild.entrySet()) {
+                    fresh.remove(change.getKey());
+                    if (change.getValue() != null) {
+                        fresh.add(change.getValue());
+                    }
+                }
+                changesDuringRebuild.clear();
+            }
+            snapshot = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("Job search index rebuilt with {} jobs and {} terms", fresh.documents.size(), fresh.postings.size());
+    }
+
+    public void index(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (!isIndexable(job)) {
+            remove(job.getId());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            snapshot.remove(job.getId());
+            snapshot.add(job);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(job.getId(), job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            snapshot.remove(jobId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(jobId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return snapshot.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Page<Job> search(String query, Pageable pageable) {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setSearch(query);
+        return search(criteria, pageable);
+    }
+
+    /**
+     * Text queries are ranked by relevance; filter-only queries follow the pageable's sort.
+     */
+    public Page<Job> search(JobSearchCriteria criteria, Pageable pageable) {
+        Comparator<ScoredJob> order = hasText(criteria) ? RELEVANCE : fieldOrder(pageable.getSort());
+        int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        PriorityQueue<ScoredJob> top = new PriorityQueue<>(Math.max(1, Math.min(limit, 1024)), order);
+
+        int total;
+        lock.readLock().lock();
+        try {
+            total = forEachMatch(snapshot, criteria, (job, score) -> {
+                ScoredJob scored = new ScoredJob(job, score);
+                if (top.size() < limit) {
+                    top.add(scored);
+                } else if (order.compare(scored, top.peek()) > 0) {
+                    top.poll();
+                    top.add(scored);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ScoredJob> ranked = new ArrayList<>(top);
+        ranked.sort(order.reversed());
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        List<Job> content = new ArrayList<>(ranked.size() - from);
+        for (ScoredJob scored : ranked.subList(from, ranked.size())) {
+            content.add(scored.job());
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Counts the jobs matching {@code criteria} per job type, employment type, location and
+     * salary band in a single pass. A job falls in the band containing the midpoint of its
+     * salary range; bands are split at {@code salaryBounds}, which must be ascending.
+     */
+    public JobFacets facets(JobSearchCriteria criteria, double[] salaryBounds, int locationLimit) {
+        int[] jobTypes = new int[Job.JobType.values().length];
+        int[] employmentTypes = new int[Job.EmploymentType.values().length];
+        int[] salaryBands = new int[salaryBounds.length + 1];
+        Map<String, int[]> locations = new HashMap<>();
+        Map<String, String> locationLabels = new HashMap<>();
+
+        int total;
+        lock.readLock().lock();
+        try {
+            total = forEachMatch(snapshot, criteria, (job, score) -> {
+                if (job.getJobType() != null) {
+                    jobTypes[job.getJobType().ordinal()]++;
+                }
+                if (job.getEmploymentType() != null) {
+                    employmentTypes[job.getEmploymentType().ordinal()]++;
+                }
+                double midpoint = job.getMaxSalary() > 0
+                        ? (job.getMinSalary() + job.getMaxSalary()) / 2 : job.getMinSalary();
+                int band = Arrays.binarySearch(salaryBounds, midpoint);
+                salaryBands[band >= 0 ? band + 1 : -band - 1]++;
+
+                String location = TextNormalizer.normalizePhrase(job.getLocation());
+                if (!location.isEmpty()) {
+                    int[] count = locations.get(location);
+                    if (count == null) {
+                        locations.put(location, new int[] {1});
+                        locationLabels.put(location, job.getLocation().trim());
+                    } else {
+                        count[0]++;
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        JobFacets facets = new JobFacets();
+        facets.setTotal(total);
+        for (Job.JobType type : Job.JobType.values()) {
+            facets.getJobTypes().put(type.name(), jobTypes[type.ordinal()]);
+        }
+        for (Job.EmploymentType type : Job.EmploymentType.values()) {
+            facets.getEmploymentTypes().put(type.name(), employmentTypes[type.ordinal()]);
+        }
+        for (int i = 0; i < salaryBands.length; i++) {
+            facets.getSalaryBands().put(bandLabel(salaryBounds, i), salaryBands[i]);
+        }
+        locations.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, int[]> e) -> e.getValue()[0]).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(locationLimit)
+                .forEach(e -> facets.getLocations().put(locationLabels.get(e.getKey()), e.getValue()[0]));
+        return facets;
+    }
+
+    /**
+     * Calls {@code visitor} for every job matching {@code criteria} and returns how many
+     * there were. Callers hold the read lock.
+     */
+    private static int forEachMatch(Snapshot index, JobSearchCriteria criteria, MatchVisitor visitor) {
+        List<String> tokens = TextNormalizer.tokenize(criteria.getSearch());
+        List<TermMatch> textMatches = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            TermMatch match = index.lookup(tokens.get(i), i == tokens.size() - 1);
+            if (match.postings().isEmpty()) {
+                return 0;
+            }
+            textMatches.add(match);
+        }
+
+        List<Collection<String>> filters = index.filterPostings(criteria);
+        if (filters == null) {
+            return 0;
+        }
+        Predicate<Job> residual = residualFilter(criteria);
+
+        // Drive from the most selective posting list; everything else is a membership check.
+        Collection<String> driver = index.documents.keySet();
+        for (TermMatch match : textMatches) {
+            if (match.postings().size() < driver.size()) {
+                driver = match.postings().keySet();
+            }
+        }
+        for (Collection<String> filter : filters) {
+            if (filter.size() < driver.size()) {
+                driver = filter;
+            }
+        }
+
+        int matched = 0;
+        for (String id : driver) {
+            float score = 0f;
+            boolean matchesAll = true;
+            for (TermMatch match : textMatches) {
+                Float termScore = match.postings().get(id);
+                if (termScore == null) {
+                    matchesAll = false;
+                    break;
+                }
+                score += termScore * match.factor();
+            }
+            if (!matchesAll) {
+                continue;
+            }
+            for (Collection<String> filter : filters) {
+                if (filter != driver && !filter.contains(id)) {
+                    matchesAll = false;
+                    break;
+                }
+            }
+            Job job = index.documents.get(id);
+            if (matchesAll && residual.test(job)) {
+                matched++;
+                visitor.accept(job, score);
+            }
+        }
+        return matched;
+    }
+
+    private static boolean hasText(JobSearchCriteria criteria) {
+        return !TextNormalizer.tokenize(criteria.getSearch()).isEmpty();
+    }
+
+    private static String bandLabel(double[] bounds, int band) {
+        if (band == 0) {
+            return "<" + formatAmount(bounds[0]);
+        }
+        if (band == bounds.length) {
+            return formatAmount(bounds[band - 1]) + "+";
+        }
+        return formatAmount(bounds[band - 1]) + "-" + formatAmount(bounds[band]);
+    }
+
+    private static String formatAmount(double amount) {
+        return amount == Math.rint(amount) ? Long.toString((long) amount) : Double.toString(amount);
+    }
+
+    private static Predicate<Job> residualFilter(JobSearchCriteria criteria) {
+        // Jobs past their deadline stay hidden until the expiry sweeper closes them.
+        long now = System.currentTimeMillis();
+        Predicate<Job> filter = job -> job.getDeadline() == null || job.getDeadline().getTime() >= now;
+        if (criteria.getMinSalary() != null) {
+            double min = criteria.getMinSalary();
+            filter = filter.and(job -> job.getMaxSalary() >= min);
+        }
+        if (criteria.getMaxSalary() != null) {
+            double max = criteria.getMaxSalary();
+            filter = filter.and(job -> job.getMinSalary() <= max);
+        }
+        if (criteria.getPostedSince() != null) {
+            long since = criteria.getPostedSince().atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            filter = filter.and(job -> postedAt(job) >= since);
+        }
+        return filter;
+    }
+
+    // The heap keeps the greatest K, so "greater" must mean "comes first on the page".
+    private static Comparator<ScoredJob> fieldOrder(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.desc("postedAt"));
+        Comparator<ScoredJob> byField = switch (order.getProperty()) {
+            case "minSalary" -> Comparator.comparingDouble(scored -> scored.job().getMinSalary());
+            case "maxSalary" -> Comparator.comparingDouble(scored -> scored.job().getMaxSalary());
+            case "views" -> Comparator.comparingInt(scored -> scored.job().getViews());
+            case "title" -> Comparator.comparing(scored -> String.valueOf(scored.job().getTitle()),
+                    String.CASE_INSENSITIVE_ORDER);
+            default -> Comparator.comparingLong(scored -> postedAt(scored.job()));
+        };
+        byField = byField.thenComparing(scored -> scored.job().getId());
+        return order.isAscending() ? byField.reversed() : byField;
+    }
+
+    private static boolean isIndexable(Job job) {
+        return job.getId() != null && job.getStatus() == Job.Status.ACTIVE;
+    }
+
+    private static long postedAt(Job job) {
+        Date postedAt = job.getPostedAt();
+        return postedAt != null ? postedAt.getTime() : 0L;
+    }
+
+    /**
+     * All index structures for one generation; a rebuild swaps in a whole new snapshot.
+     * Callers hold the index lock.
+     */
+    private static final class Snapshot {
+
+        private final TreeMap<String, Map<String, Float>> postings = new TreeMap<>();
+        private final Map<String, Job> documents = new HashMap<>();
+        private final Map<String, Map<String, Float>> documentTerms = new HashMap<>();
+        private final Map<String, Set<String>> locationPostings = new HashMap<>();
+        private final Map<String, Set<String>> skillPostings = new HashMap<>();
+        private final Map<Job.JobType, Set<String>> jobTypePostings = new EnumMap<>(Job.JobType.class);
+        private final Map<Job.EmploymentType, Set<String>> employmentTypePostings =
+                new EnumMap<>(Job.EmploymentType.class);
+
+        void add(Job job) {
+            String id = job.getId();
+            Map<String, Float> terms = analyze(job);
+            documents.put(id, job);
+            documentTerms.put(id, terms);
+            for (Map.Entry<String, Float> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(id, term.getValue());
+            }
+            for (String token : locationTokens(job)) {
+                locationPostings.computeIfAbsent(token, k -> new HashSet<>()).add(id);
+            }
+            for (String skill : skillKeys(job)) {
+                skillPostings.computeIfAbsent(skill, k -> new HashSet<>()).add(id);
+            }
+            if (job.getJobType() != null) {
+                jobTypePostings.computeIfAbsent(job.getJobType(), k -> new HashSet<>()).add(id);
+            }
+            if (job.getEmploymentType() != null) {
+                employmentTypePostings.computeIfAbsent(job.getEmploymentType(), k -> new HashSet<>()).add(id);
+            }
+        }
+
+        void remove(String id) {
+            Job job = documents.remove(id);
+            Map<String, Float> terms = documentTerms.remove(id);
+            if (job == null || terms == null) {
+                return;
+            }
+            for (String term : terms.keySet()) {
+                Map<String, Float> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            for (String token : locationTokens(job)) {
+                removeFrom(locationPostings, token, id);
+            }
+            for (String skill : skillKeys(job)) {
+                removeFrom(skillPostings, skill, id);
+            }
+            if (job.getJobType() != null) {
+                removeFrom(jobTypePostings, job.getJobType(), id);
+            }
+            if (job.getEmploymentType() != null) {
+                removeFrom(employmentTypePostings, job.getEmploymentType(), id);
+            }
+        }
+
+        TermMatch lookup(String token, boolean prefix) {
+            double docCount = Math.max(1, documents.size());
+            if (!prefix) {
+                Map<String, Float> exact = postings.get(token);
+                return exact == null
+                        ? new TermMatch(Collections.emptyMap(), 0f)
+                        : new TermMatch(exact, idf(docCount, exact.size()));
+            }
+
+            Map<String, Float> merged = new HashMap<>();
+            for (Map.Entry<String, Map<String, Float>> term :
+                    postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                float factor = idf(docCount, term.getValue().size());
+                if (!term.getKey().equals(token)) {
+                    factor *= PREFIX_PENALTY;
+                }
+                for (Map.Entry<String, Float> entry : term.getValue().entrySet()) {
+                    merged.merge(entry.getKey(), entry.getValue() * factor, Math::max);
+                }
+            }
+            return new TermMatch(merged, 1f);
+        }
+
+        /**
+         * Returns one id set per exact-match predicate, or {@code null} when any of them
+         * matches nothing.
+         */
+        List<Collection<String>> filterPostings(JobSearchCriteria criteria) {
+            List<Collection<String>> filters = new ArrayList<>();
+            for (String token : new HashSet<>(TextNormalizer.tokenize(criteria.getLocation()))) {
+                Set<String> ids = locationPostings.get(token);
+                if (ids == null) {
+                    return null;
+                }
+                filters.add(ids);
+            }
+            if (criteria.getJobType() != null) {
+                Set<String> ids = jobTypePostings.get(criteria.getJobType());
+                if (ids == null) {
+                    return null;
+                }
+                filters.add(ids);
+            }
+            if (criteria.getEmploymentType() != null) {
+                Set<String> ids = employmentTypePostings.get(criteria.getEmploymentType());
+                if (ids == null) {
+                    return null;
+                }
+                filters.add(ids);
+            }
+            if (criteria.getSkills() != null && !criteria.getSkills().isEmpty()) {
+                Set<String> anySkill = new HashSet<>();
+                for (String skill : criteria.getSkills()) {
+                    anySkill.addAll(skillPostings.getOrDefault(TextNormalizer.normalizePhrase(skill), Set.of()));
+                }
+                if (anySkill.isEmpty()) {
+                    return null;
+                }
+                filters.add(anySkill);
+            }
+            return filters;
+        }
+
+        private static <K> void removeFrom(Map<K, Set<String>> postings, K key, String id) {
+            Set<String> ids = postings.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+
+        private static float idf(double docCount, int docFrequency) {
+            return (float) Math.log(1.0 + docCount / docFrequency);
+        }
+
+        private static Set<String> locationTokens(Job job) {
+            return new HashSet<>(TextNormalizer.tokenize(job.getLocation()));
+        }
+
+        private static Set<String> skillKeys(Job job) {
+            Set<String> keys = new HashSet<>();
+            if (job.getSkills() != null) {
+                for (String skill : job.getSkills()) {
+                    String key = TextNormalizer.normalizePhrase(skill);
+                    if (!key.isEmpty()) {
+                        keys.add(key);
+                    }
+                }
+            }
+            return keys;
+        }
+
+        private static Map<String, Float> analyze(Job job) {
+            Map<String, Float> terms = new HashMap<>();
+            addField(terms, job.getTitle(), TITLE_WEIGHT);
+            if (job.getSkills() != null) {
+                for (String skill : job.getSkills()) {
+                    addField(terms, skill, SKILL_WEIGHT);
+                }
+            }
+            addField(terms, job.getLocation(), LOCATION_WEIGHT);
+            addField(terms, job.getDescription(), DESCRIPTION_WEIGHT);
+            return terms;
+        }
+
+        private static void addField(Map<String, Float> terms, String text, float weight) {
+            for (String token : new HashSet<>(TextNormalizer.tokenize(text))) {
+                terms.merge(token, weight, Float::sum);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface MatchVisitor {
+        void accept(Job job, float score);
+    }
+
+    private record TermMatch(Map<String, Float> postings, float factor) {}
+
+    private record ScoredJob(Job job, float score) {}
+}
@@ -0,0 +1,35 @@
+package com.shramii.search;
+
+import com.shramii.model.Job;
+import com.shramii.service.JobsClosedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobSearchIndexListener extends AbstractMongoEventListener<Job> {
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Job> event) {
+        jobSearchIndex.index(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Job> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            jobSearchIndex.remove(id.toString());
+        }
+    }
+
+    @EventListener
+    public void onJobsClosed(JobsClosedEvent event) {
+        event.jobIds().forEach(jobSearchIndex::remove);
+    }
+}
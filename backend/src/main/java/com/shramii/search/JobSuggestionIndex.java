@@ -0,0 +1,319 @@
+package com.shramii.search;
+
+import com.shramii.model.Job;
+import com.shramii.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over the titles, skills and locations of ACTIVE jobs. Each field is a trie
+ * keyed by the normalized phrase; a phrase's weight is the number of jobs using it.
+ * Every node also tracks the best weight in its subtree, so the top suggestions for a
+ * prefix are found best-first without walking the whole subtree.
+ */
+@Component
+public class JobSuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSuggestionIndex.class);
+
+    public enum Field {
+        TITLE,
+        SKILL,
+        LOCATION
+    }
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Field, Trie> tries = emptyTries();
+
+    // Phrases each job contributed, so an update can retract exactly what was added.
+    private Map<String, Map<Field, Map<String, String>>> jobPhrases = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.suggest.rebuild-interval:900000}",
+            fixedDelayString = "${search.suggest.rebuild-interval:900000}")
+    public void rebuild() {
+        try {
+            rebuild(jobRepository.findByStatus(Job.Status.ACTIVE));
+        } catch (Exception e) {
+            logger.error("Cannot rebuild job suggestion index: {}", e.getMessage());
+        }
+    }
+
+    public void rebuild(List<Job> jobs) {
+        Map<Field, Trie> freshTries = emptyTries();
+        Map<String, Map<Field, Map<String, String>>> freshPhrases = new HashMap<>(jobs.size() * 2);
+        for (Job job : jobs) {
+            if (job.getId() != null && job.getStatus() == Job.Status.ACTIVE) {
+                Map<Field, Map<String, String>> phrases = phrases(job);
+                freshPhrases.put(job.getId(), phrases);
+                apply(freshTries, phrases, 1);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            tries = freshTries;
+            jobPhrases = freshPhrases;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("Job suggestion index rebuilt from {} jobs", freshPhrases.size());
+    }
+
+    public void index(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.getStatus() != Job.Status.ACTIVE) {
+            remove(job.getId());
+            return;
+        }
+
+        Map<Field, Map<String, String>> phrases = phrases(job);
+        lock.writeLock().lock();
+        try {
+            Map<Field, Map<String, String>> previous = jobPhrases.put(job.getId(), phrases);
+            if (previous != null) {
+                apply(tries, previous, -1);
+            }
+            apply(tries, phrases, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Map<Field, Map<String, String>> previous = jobPhrases.remove(jobId);
+            if (previous != null) {
+                apply(tries, previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions starting with {@code prefix}, most used first.
+     * A null {@code field} merges suggestions from every field.
+     */
+    public List<Suggestion> suggest(String prefix, Field field, int limit) {
+        String key = TextNormalizer.normalize(prefix).replaceAll("\\s+", " ").stripLeading();
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Field candidate : Field.values()) {
+                if (field == null || field == candidate) {
+                    tries.get(candidate).top(key, candidate, limit, suggestions);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (field == null) {
+            suggestions.sort(Comparator.comparingInt(Suggestion::count).reversed()
+                    .thenComparing(Suggestion::text));
+            if (suggestions.size() > limit) {
+                return new ArrayList<>(suggestions.subList(0, limit));
+            }
+        }
+        return suggestions;
+    }
+
+    private static void apply(Map<Field, Trie> tries, Map<Field, Map<String, String>> phrases, int delta) {
+        for (Map.Entry<Field, Map<String, String>> field : phrases.entrySet()) {
+            Trie trie = tries.get(field.getKey());
+            for (Map.Entry<String, String> phrase : field.getValue().entrySet()) {
+                trie.add(phrase.getKey(), phrase.getValue(), delta);
+            }
+        }
+    }
+
+    private static Map<Field, Map<String, String>> phrases(Job job) {
+        Map<Field, Map<String, String>> phrases = new EnumMap<>(Field.class);
+        addPhrase(phrases, Field.TITLE, job.getTitle());
+        if (job.getSkills() != null) {
+            for (String skill : job.getSkills()) {
+                addPhrase(phrases, Field.SKILL, skill);
+            }
+        }
+        addPhrase(phrases, Field.LOCATION, job.getLocation());
+        return phrases;
+    }
+
+    private static void addPhrase(Map<Field, Map<String, String>> phrases, Field field, String text) {
+        String key = TextNormalizer.normalizePhrase(text);
+        if (!key.isEmpty()) {
+            phrases.computeIfAbsent(field, f -> new LinkedHashMap<>()).putIfAbsent(key, text.trim());
+        }
+    }
+
+    private static Map<Field, Trie> emptyTries() {
+        Map<Field, Trie> tries = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            tries.put(field, new Trie());
+        }
+        return tries;
+    }
+
+    public record Suggestion(String text, Field field, int count) {}
+
+    /**
+     * Character trie with children in sorted parallel arrays to keep nodes small. Not
+     * thread-safe; guarded by the index lock.
+     */
+    private static final class Trie {
+
+        private final Node root = new Node();
+
+        void add(String key, String text, int delta) {
+            Node[] path = new Node[key.length() + 1];
+            Node node = root;
+            path[0] = node;
+            for (int i = 0; i < key.length(); i++) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    if (delta <= 0) {
+                        return;
+                    }
+                    child = node.addChild(key.charAt(i));
+                }
+                node = child;
+                path[i + 1] = node;
+            }
+
+            node.count = Math.max(0, node.count + delta);
+            if (node.count == 0) {
+                node.text = null;
+            } else if (node.text == null) {
+                node.text = text;
+            }
+
+            // Refresh subtree maxima bottom-up and drop nodes that no longer lead anywhere.
+            for (int i = key.length(); i >= 0; i--) {
+                Node current = path[i];
+                current.updateBest();
+                if (i > 0 && current.best == 0) {
+                    path[i - 1].removeChild(key.charAt(i - 1));
+                }
+            }
+        }
+
+        void top(String prefix, Field field, int limit, List<Suggestion> out) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node == null || node.best == 0) {
+                return;
+            }
+
+            // Entries are either subtrees (ranked by their best weight) or finished phrases.
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                    Comparator.comparingInt(Candidate::weight).reversed()
+                            .thenComparing(candidate -> candidate.node() != null));
+            queue.add(new Candidate(node, null, node.best));
+            int emitted = 0;
+            while (!queue.isEmpty() && emitted < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.node() == null) {
+                    out.add(new Suggestion(candidate.text(), field, candidate.weight()));
+                    emitted++;
+                    continue;
+                }
+                Node current = candidate.node();
+                if (current.count > 0) {
+                    queue.add(new Candidate(null, current.text, current.count));
+                }
+                for (Node child : current.children) {
+                    queue.add(new Candidate(child, null, child.best));
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int count;
+        private int best;
+        private String text;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char label) {
+            int insertAt = -Arrays.binarySearch(labels, label) - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            Node child = new Node();
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        void updateBest() {
+            int max = count;
+            for (Node child : children) {
+                max = Math.max(max, child.best);
+            }
+            best = max;
+        }
+    }
+
+    private record Candidate(Node node, String text, int weight) {}
+}
@@ -0,0 +1,35 @@
+package com.shramii.search;
+
+import com.shramii.model.Job;
+import com.shramii.service.JobsClosedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobSuggestionIndexListener extends AbstractMongoEventListener<Job> {
+
+    @Autowired
+    private JobSuggestionIndex jobSuggestionIndex;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Job> event) {
+        jobSuggestionIndex.index(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Job> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            jobSuggestionIndex.remove(id.toString());
+        }
+    }
+
+    @EventListener
+    public void onJobsClosed(JobsClosedEvent event) {
+        event.jobIds().forEach(jobSuggestionIndex::remove);
+    }
+}
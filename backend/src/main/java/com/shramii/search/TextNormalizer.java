@@ -0,0 +1,77 @@
+package com.shramii.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class TextNormalizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "it", "of", "on", "or", "the", "to", "with"
+    );
+
+    private TextNormalizer() {}
+
+    /**
+     * Lower-cases {@code text} and turns everything but words into single-space separators.
+     * Accents are folded only on Latin letters; in scripts such as Devanagari the vowel signs,
+     * virama and anusvara are part of the word and are kept.
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        Character.UnicodeScript baseScript = Character.UnicodeScript.COMMON;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                    || type == Character.ENCLOSING_MARK) {
+                if (baseScript != Character.UnicodeScript.LATIN) {
+                    sb.append(c);
+                }
+                continue;
+            }
+            if (c == '\u200C' || c == '\u200D') {
+                // Zero-width (non-)joiners only shape Indic text within a word.
+                continue;
+            }
+            baseScript = Character.UnicodeScript.of(c);
+            sb.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+        }
+        return Normalizer.normalize(sb, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a short phrase such as a skill name to a single comparable key.
+     */
+    public static String normalizePhrase(String text) {
+        return normalize(text).trim().replaceAll("\\s+", " ");
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean boundary = i == normalized.length() || normalized.charAt(i) == ' ';
+            if (boundary) {
+                if (start >= 0) {
+                    String token = normalized.substring(start, i);
+                    if (!STOP_WORDS.contains(token)) {
+                        tokens.add(token);
+                    }
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+}
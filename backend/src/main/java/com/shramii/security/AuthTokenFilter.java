@@ -1,6 +1,6 @@
 package com.shramii.security;
 
-import com.shramii.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +23,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     private JwtUtils jwtUtils;
     
     @Autowired
-    private UserRepository userRepository;
+    private UserPrincipalCache userPrincipalCache;
     
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
     
@@ -32,10 +32,11 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.verifyJwtToken(jwt) : null;
+            if (claims != null) {
+                String username = claims.getSubject();
                 
-                UserDetails userDetails = userRepository.findByUsername(username)
+                UserDetails userDetails = userPrincipalCache.findByUsername(username)
                     .orElse(null);
                 
                 if (userDetails != null) {
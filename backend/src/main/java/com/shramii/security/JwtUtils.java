@@ -1,7 +1,11 @@
 package com.shramii.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
@@ -23,8 +28,41 @@ public class JwtUtils {
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+    
+    private SecretKey signingKey;
+    
+    private JwtParser jwtParser;
+    
+    // Verified token -> claims; entries never outlive the token's own expiration.
+    private Cache<String, Claims> verifiedTokens;
+    
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
     
     public String generateJwtToken(Authentication authentication) {
@@ -37,26 +75,23 @@ public class JwtUtils {
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
     
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-    
-    public boolean validateJwtToken(String authToken) {
+    /**
+     * Verifies the token once and returns its claims, or {@code null} if it is invalid.
+     * Tokens seen before are answered from the cache without repeating the HMAC check.
+     */
+    public Claims verifyJwtToken(String authToken) {
+        Claims cached = verifiedTokens.getIfPresent(authToken);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
+            verifiedTokens.put(authToken, claims);
+            return claims;
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -65,7 +100,30 @@ public class JwtUtils {
             logger.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.error("Invalid JWT signature: {}", e.getMessage());
+        }
+        return null;
+    }
+    
+    public String getUserNameFromJwtToken(String token) {
+        Claims claims = verifyJwtToken(token);
+        if (claims == null) {
+            throw new JwtException("Invalid JWT token");
+        }
+        return claims.getSubject();
+    }
+    
+    public boolean validateJwtToken(String authToken) {
+        return verifyJwtToken(authToken) != null;
+    }
+    
+    private static long remainingNanos(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return 0L;
         }
-        return false;
+        long remainingMs = expiration.getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMs));
     }
 }
@@ -0,0 +1,119 @@
+package com.shramii.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The application's {@link PasswordEncoder}. BCrypt runs on a dedicated pool sized to the
+ * CPU count with a short bounded queue, so a login storm can use at most the cores and
+ * requests beyond the queue fail fast with {@link HashingSaturatedException} instead of
+ * piling up on request threads. Callers wait for their result, which is cheap when
+ * requests run on virtual threads.
+ */
+@Component
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int strength;
+
+    @Value("${auth.password.hash-threads:0}")
+    private int threads;
+
+    @Value("${auth.password.queue-capacity:0}")
+    private int queueCapacity;
+
+    @Value("${auth.password.wait-timeout:10s}")
+    private Duration waitTimeout;
+
+    private BCryptPasswordEncoder bcrypt;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        bcrypt = new BCryptPasswordEncoder(strength);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int capacity = queueCapacity > 0 ? queueCapacity : poolSize * 4;
+        AtomicInteger threadIds = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Password hashing on {} threads, queue {}, BCrypt strength {}", poolSize, capacity, strength);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> bcrypt.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    // Cheap: compares the stored cost against the configured one, no hashing involved.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return bcrypt.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new HashingSaturatedException();
+        }
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new HashingSaturatedException();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Thrown when the hashing pool and its queue are full; controllers answer 429.
+     */
+    public static class HashingSaturatedException extends RuntimeException {
+
+        public HashingSaturatedException() {
+            super("Too many authentication requests, please retry shortly");
+        }
+    }
+}
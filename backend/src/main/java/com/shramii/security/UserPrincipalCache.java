@@ -0,0 +1,190 @@
+package com.shramii.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.shramii.model.User;
+import com.shramii.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resolves authenticated principals by username without a Mongo round trip per request.
+ * A bounded local tier sits in front of an optional shared Redis tier; both are
+ * invalidated by {@link UserPrincipalCacheListener} whenever a user is saved or deleted.
+ * Cached principals never carry the password hash; only login reads it, straight from Mongo.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrincipalCache.class);
+
+    private static final String REDIS_KEY_PREFIX = "principal:";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${auth.principal-cache.ttl:60s}")
+    private Duration ttl;
+
+    @Value("${auth.principal-cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${auth.principal-cache.redis.ttl:60s}")
+    private Duration redisTtl;
+
+    private LoadingCache<String, User> localCache;
+
+    private Counter redisHits;
+
+    private Counter redisMisses;
+
+    @PostConstruct
+    void init() {
+        // A load racing an eviction can write a stale entry back to Redis; never let it outlive the local bound.
+        if (redisTtl.compareTo(ttl) > 0) {
+            logger.warn("auth.principal-cache.redis.ttl {} exceeds the local ttl {}; capping it", redisTtl, ttl);
+            redisTtl = ttl;
+        }
+        localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "userPrincipals");
+        redisHits = Counter.builder("principal.cache.redis").tag("result", "hit").register(meterRegistry);
+        redisMisses = Counter.builder("principal.cache.redis").tag("result", "miss").register(meterRegistry);
+    }
+
+    public Optional<User> findByUsername(String username) {
+        return Optional.ofNullable(localCache.get(username));
+    }
+
+    public void invalidate(User user) {
+        if (user.getUsername() != null) {
+            invalidate(user.getUsername());
+        }
+        if (user.getId() != null) {
+            invalidateById(user.getId());
+        }
+    }
+
+    public void invalidateById(String userId) {
+        localCache.asMap().values().removeIf(user -> {
+            if (userId.equals(user.getId())) {
+                evictShared(user.getUsername());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void invalidate(String username) {
+        localCache.invalidate(username);
+        evictShared(username);
+    }
+
+    private User load(String username) {
+        if (redisEnabled) {
+            User shared = readShared(username);
+            if (shared != null) {
+                redisHits.increment();
+                return shared;
+            }
+            redisMisses.increment();
+        }
+
+        CachedPrincipal principal = userRepository.findByUsername(username).map(CachedPrincipal::from).orElse(null);
+        if (principal == null) {
+            return null;
+        }
+        if (redisEnabled) {
+            writeShared(principal);
+        }
+        return principal.toUser();
+    }
+
+    private User readShared(String username) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + username);
+            return json != null ? objectMapper.readValue(json, CachedPrincipal.class).toUser() : null;
+        } catch (Exception e) {
+            logger.warn("Cannot read principal from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(CachedPrincipal principal) {
+        try {
+            String json = objectMapper.writeValueAsString(principal);
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + principal.username(), json, redisTtl);
+        } catch (Exception e) {
+            logger.warn("Cannot write principal to Redis: {}", e.getMessage());
+        }
+    }
+
+    private void evictShared(String username) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(REDIS_KEY_PREFIX + username);
+        } catch (Exception e) {
+            logger.warn("Cannot evict principal from Redis: {}", e.getMessage());
+        }
+    }
+
+    // User exposes UserDetails getters without setters, so Redis stores this flat copy instead.
+    record CachedPrincipal(String id, String username, String email, String firstName,
+                           String lastName, User.Role role, String location, List<String> skills,
+                           double expectedSalary, boolean available, boolean active, Date createdAt) {
+
+        static CachedPrincipal from(User user) {
+            return new CachedPrincipal(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                    user.getLastName(), user.getRole(), user.getLocation(), user.getSkills(),
+                    user.getExpectedSalary(), user.isAvailable(), user.isActive(), user.getCreatedAt());
+        }
+
+        User toUser() {
+            User user = new User();
+            user.setId(id);
+            user.setUsername(username);
+            user.setEmail(email);
+            user.setFirstName(firstName);
+            user.setLastName(lastName);
+            user.setRole(role);
+            user.setLocation(location);
+            user.setSkills(skills);
+            user.setExpectedSalary(expectedSalary);
+            user.setAvailable(available);
+            user.setActive(active);
+            user.setCreatedAt(createdAt);
+            return user;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.shramii.security;
+
+import com.shramii.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserPrincipalCacheListener extends AbstractMongoEventListener<User> {
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        userPrincipalCache.invalidate(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            userPrincipalCache.invalidateById(id.toString());
+        }
+    }
+}
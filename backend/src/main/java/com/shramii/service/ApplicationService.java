@@ -0,0 +1,106 @@
+package com.shramii.service;
+
+import com.shramii.dto.ApplyRequest;
+import com.shramii.mail.MailOutbox;
+import com.shramii.model.Application;
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import com.shramii.repository.StoredDocumentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+
+/**
+ * Application writes. Applying is a single insert guarded by the unique (jobId, workerId)
+ * index, so a duplicate surfaces as a {@link org.springframework.dao.DuplicateKeyException}
+ * without a prior lookup; the job's counter goes through {@link JobCounterService} so a
+ * burst of applies to one job does not contend on its document.
+ */
+@Service
+public class ApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobCounterService jobCounterService;
+
+    @Autowired
+    private StoredDocumentRepository storedDocumentRepository;
+
+    @Autowired
+    private MailOutbox mailOutbox;
+
+    public Application apply(Job job, User worker, ApplyRequest request) {
+        if (job.getStatus() != Job.Status.ACTIVE
+                || (job.getDeadline() != null && job.getDeadline().before(new Date()))) {
+            throw new IllegalStateException("Job is not accepting applications");
+        }
+        if (request != null && request.getResumeId() != null
+                && !storedDocumentRepository.existsByIdAndOwnerId(request.getResumeId(), worker.getId())) {
+            throw new IllegalArgumentException("Resume not found");
+        }
+
+        Date now = new Date();
+        Application application = new Application();
+        application.setJobId(job.getId());
+        application.setWorkerId(worker.getId());
+        application.setEmployerId(job.getEmployerId());
+        application.setStage(Application.Stage.NEW);
+        application.setAppliedAt(now);
+        application.setUpdatedAt(now);
+        if (request != null) {
+            application.setCoverLetter(request.getCoverLetter());
+            application.setResumeId(request.getResumeId());
+        }
+
+        Application saved = mongoTemplate.insert(application);
+        jobCounterService.recordApplication(job.getId());
+        mailOutbox.enqueue(worker.getEmail(), "Application sent: " + job.getTitle(),
+                "Your application for " + job.getTitle() + " has been sent to the employer.");
+        mailOutbox.enqueue(job.getContactEmail(), "New applicant for " + job.getTitle(),
+                displayName(worker) + " applied to " + job.getTitle() + ".");
+        logger.debug("Worker {} applied to job {}", worker.getId(), job.getId());
+        return saved;
+    }
+
+    /**
+     * Moves an application to {@code next}. The update only matches while the stage is
+     * still the one the caller saw, so concurrent moves cannot overwrite each other.
+     */
+    public Application moveToStage(Application application, Application.Stage next, String notes) {
+        Application.Stage current = application.getStage();
+        if (current == null || !current.canMoveTo(next)) {
+            throw new IllegalStateException("Cannot move application from " + current + " to " + next);
+        }
+
+        Update update = new Update().set("stage", next).set("updatedAt", new Date());
+        if (notes != null) {
+            update.set("notes", notes);
+        }
+        Application updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(application.getId()).and("stage").is(current)),
+                update, FindAndModifyOptions.options().returnNew(true), Application.class);
+        if (updated == null) {
+            throw new IllegalStateException("Application stage was changed by someone else");
+        }
+        return updated;
+    }
+
+    private static String displayName(User user) {
+        if (user.getFirstName() == null) {
+            return user.getUsername();
+        }
+        return user.getLastName() != null ? user.getFirstName() + " " + user.getLastName() : user.getFirstName();
+    }
+}
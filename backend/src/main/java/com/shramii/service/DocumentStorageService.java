@@ -0,0 +1,143 @@
+package com.shramii.service;
+
+import com.shramii.model.StoredDocument;
+import com.shramii.repository.StoredDocumentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Content-addressed storage for resumes and other documents. Uploads are copied from the
+ * request to a temp file through a fixed buffer while being hashed, then moved to a path
+ * derived from their SHA-256; a file that is already stored is simply not moved again.
+ */
+@Service
+public class DocumentStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStorageService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private StoredDocumentRepository storedDocumentRepository;
+
+    @Value("${file.upload.dir:./uploads}")
+    private String uploadDir;
+
+    @Value("${file.upload.max-size:10MB}")
+    private DataSize maxSize;
+
+    private Path root;
+    private Path tempDir;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        tempDir = root.resolve("tmp");
+        Files.createDirectories(tempDir);
+        logger.info("Storing documents under {}", root);
+    }
+
+    public long getMaxSize() {
+        return maxSize.toBytes();
+    }
+
+    public StoredDocument store(InputStream content, String filename, String contentType, String ownerId)
+            throws IOException {
+
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".part");
+        String sha256;
+        long size = 0;
+        try {
+            MessageDigest digest = sha256();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            ReadableByteChannel in = Channels.newChannel(content);
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                while (in.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxSize.toBytes()) {
+                        throw new DocumentTooLargeException(maxSize);
+                    }
+                    digest.update(buffer.array(), buffer.position(), buffer.remaining());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+            sha256 = HexFormat.of().formatHex(digest.digest());
+
+            Path target = pathOf(sha256);
+            if (Files.exists(target)) {
+                logger.debug("Document {} already stored, reusing it", sha256);
+            } else {
+                // A concurrent upload of the same bytes may win the rename; the content is identical either way.
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        // Re-uploading the same file returns the existing record rather than a new one.
+        Optional<StoredDocument> existing = storedDocumentRepository.findFirstByOwnerIdAndSha256(ownerId, sha256);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        StoredDocument document = new StoredDocument();
+        document.setOwnerId(ownerId);
+        document.setSha256(sha256);
+        document.setSize(size);
+        document.setContentType(contentType);
+        document.setFilename(filename);
+        document.setUploadedAt(new Date());
+        return storedDocumentRepository.save(document);
+    }
+
+    public Path pathOf(StoredDocument document) {
+        return pathOf(document.getSha256());
+    }
+
+    private Path pathOf(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class DocumentTooLargeException extends IOException {
+
+        public DocumentTooLargeException(DataSize limit) {
+            super("Document exceeds the " + limit.toMegabytes() + "MB limit");
+        }
+    }
+}
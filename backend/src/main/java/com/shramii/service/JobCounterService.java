@@ -0,0 +1,144 @@
+package com.shramii.service;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.shramii.model.Job;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Write-behind counters for {@link Job#getViews()} and {@link Job#getApplications()}.
+ * Increments are collected in per-job in-memory adders and flushed periodically as a
+ * single unordered bulk of {@code $inc} updates, so hot listings never rewrite the
+ * job document on the request path.
+ */
+@Service
+public class JobCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobCounterService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobDetailCache jobDetailCache;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    private final ConcurrentHashMap<String, LongAdder> views = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> applications = new ConcurrentHashMap<>();
+
+    public void recordView(String jobId) {
+        increment(views, jobId);
+    }
+
+    public void recordApplication(String jobId) {
+        increment(applications, jobId);
+        platformStatsService.onApplicationSubmitted();
+    }
+
+    public long pendingViews(String jobId) {
+        LongAdder adder = views.get(jobId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    public long pendingApplications(String jobId) {
+        LongAdder adder = applications.get(jobId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Adds the applications not flushed yet to {@code flushedTotal}, a read of the flushed
+     * counters in Mongo. Flushes are held off meanwhile, so no increment is counted on both sides.
+     */
+    public synchronized long applicationsIncludingPending(LongSupplier flushedTotal) {
+        long total = flushedTotal.getAsLong();
+        for (LongAdder adder : applications.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Overlays increments that have not been flushed yet onto a job the caller owns.
+     */
+    public Job withPendingCounts(Job job) {
+        job.setViews((int) (job.getViews() + pendingViews(job.getId())));
+        job.setApplications((int) (job.getApplications() + pendingApplications(job.getId())));
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${job.counters.flush-interval:5000}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<String, Long> viewDeltas = drain(views);
+        Map<String, Long> applicationDeltas = drain(applications);
+        if (viewDeltas.isEmpty() && applicationDeltas.isEmpty()) {
+            return;
+        }
+
+        Map<String, Update> updates = new HashMap<>();
+        viewDeltas.forEach((id, delta) -> updates.computeIfAbsent(id, k -> new Update()).inc("views", delta));
+        applicationDeltas.forEach((id, delta) -> updates.computeIfAbsent(id, k -> new Update()).inc("applications", delta));
+
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+            updates.forEach((id, update) -> bulk.updateOne(Query.query(Criteria.where("id").is(id)), update));
+            long writtenAt = System.nanoTime();
+            BulkWriteResult result = bulk.execute();
+
+            // Only now subtract what was written; increments that arrived meanwhile stay pending.
+            settle(views, viewDeltas);
+            settle(applications, applicationDeltas);
+            jobDetailCache.applyCounterDeltas(viewDeltas, applicationDeltas, writtenAt);
+            logger.debug("Flushed counters for {} jobs ({} matched)", updates.size(), result.getMatchedCount());
+        } catch (Exception e) {
+            logger.error("Cannot flush job counters, will retry: {}", e.getMessage());
+        }
+    }
+
+    // Adders are never removed: dropping one can race an increment that already holds it, and the
+    // map is bounded by the jobs this node has served. Flushes subtract what they wrote instead.
+    private static void increment(ConcurrentHashMap<String, LongAdder> counters, String jobId) {
+        LongAdder adder = counters.get(jobId);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(jobId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    private static Map<String, Long> drain(ConcurrentHashMap<String, LongAdder> counters) {
+        Map<String, Long> deltas = new HashMap<>();
+        counters.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private static void settle(ConcurrentHashMap<String, LongAdder> counters, Map<String, Long> flushed) {
+        flushed.forEach((id, delta) -> {
+            LongAdder adder = counters.get(id);
+            if (adder != null) {
+                adder.add(-delta);
+            }
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.shramii.service;
+
+/**
+ * File formats accepted by job import and produced by job export.
+ */
+public enum JobDataFormat {
+    NDJSON,
+    CSV
+}
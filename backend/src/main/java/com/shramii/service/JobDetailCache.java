@@ -0,0 +1,202 @@
+package com.shramii.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.shramii.model.Job;
+import com.shramii.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-through cache for GET /jobs/{id}. A short-lived local tier absorbs spikes on a
+ * single node, an optional Redis tier is shared across nodes, and concurrent misses for
+ * the same id are collapsed into one load. Entries are evicted by {@link JobDetailCacheListener}
+ * on every save/delete; {@link JobCounterService} applies flushed counter deltas in place.
+ */
+@Service
+public class JobDetailCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobDetailCache.class);
+
+    private static final String REDIS_KEY_PREFIX = "job:";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${job.detail-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${job.detail-cache.ttl:10s}")
+    private Duration ttl;
+
+    @Value("${job.detail-cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${job.detail-cache.redis.ttl:300s}")
+    private Duration redisTtl;
+
+    private LoadingCache<String, Entry> localCache;
+
+    private Counter redisHits;
+
+    private Counter redisMisses;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // Counter updates replace entries; they must not push back the expiry that bounds staleness.
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String id, Entry entry, long currentTime) {
+                        return ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "jobDetails");
+        redisHits = Counter.builder("job.detail.cache.redis").tag("result", "hit").register(meterRegistry);
+        redisMisses = Counter.builder("job.detail.cache.redis").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Returns a private copy of the cached job, so callers may overlay live counters on it.
+     */
+    public Optional<Job> findById(String id) {
+        Entry cached = localCache.get(id);
+        return cached != null ? Optional.of(new Job(cached.job())) : Optional.empty();
+    }
+
+    /**
+     * Adds counter deltas written to Mongo at {@code writtenAt} (a {@link System#nanoTime()} reading)
+     * to cached entries. Entries loaded after that may already include them, so those are evicted.
+     */
+    public void applyCounterDeltas(Map<String, Long> viewDeltas, Map<String, Long> applicationDeltas, long writtenAt) {
+        Set<String> ids = new HashSet<>(viewDeltas.keySet());
+        ids.addAll(applicationDeltas.keySet());
+        for (String id : ids) {
+            localCache.asMap().computeIfPresent(id, (key, entry) -> {
+                if (entry.loadedAt() - writtenAt >= 0) {
+                    return null;
+                }
+                Job job = new Job(entry.job());
+                job.setViews((int) (job.getViews() + viewDeltas.getOrDefault(id, 0L)));
+                job.setApplications((int) (job.getApplications() + applicationDeltas.getOrDefault(id, 0L)));
+                return new Entry(job, entry.loadedAt());
+            });
+        }
+        // The shared copy cannot be patched atomically; drop it so the next local miss reloads from Mongo.
+        evictShared(ids);
+    }
+
+    public void evict(String id) {
+        localCache.invalidate(id);
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(REDIS_KEY_PREFIX + id);
+            } catch (Exception e) {
+                logger.warn("Cannot evict job from Redis: {}", e.getMessage());
+            }
+        }
+    }
+
+    public void evictAll(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        localCache.invalidateAll(ids);
+        evictShared(ids);
+    }
+
+    private void evictShared(Collection<String> ids) {
+        if (!redisEnabled || ids.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(ids.size());
+        ids.forEach(id -> keys.add(REDIS_KEY_PREFIX + id));
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            logger.warn("Cannot evict jobs from Redis: {}", e.getMessage());
+        }
+    }
+
+    private Entry load(String id) {
+        Job job = null;
+        if (redisEnabled) {
+            job = readShared(id);
+            if (job != null) {
+                redisHits.increment();
+            } else {
+                redisMisses.increment();
+            }
+        }
+
+        if (job == null) {
+            job = jobRepository.findById(id).orElse(null);
+            if (job != null && redisEnabled) {
+                writeShared(job);
+            }
+        }
+        return job != null ? new Entry(job, System.nanoTime()) : null;
+    }
+
+    private Job readShared(String id) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + id);
+            return json != null ? objectMapper.readValue(json, Job.class) : null;
+        } catch (Exception e) {
+            logger.warn("Cannot read job from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(Job job) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + job.getId(), objectMapper.writeValueAsString(job), redisTtl);
+        } catch (Exception e) {
+            logger.warn("Cannot write job to Redis: {}", e.getMessage());
+        }
+    }
+
+    private record Entry(Job job, long loadedAt) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.shramii.service;
+
+import com.shramii.model.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobDetailCacheListener extends AbstractMongoEventListener<Job> {
+
+    @Autowired
+    private JobDetailCache jobDetailCache;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Job> event) {
+        if (event.getSource().getId() != null) {
+            jobDetailCache.evict(event.getSource().getId());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Job> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            jobDetailCache.evict(id.toString());
+        }
+    }
+
+    @EventListener
+    public void onJobsClosed(JobsClosedEvent event) {
+        jobDetailCache.evictAll(event.jobIds());
+    }
+}
@@ -0,0 +1,108 @@
+package com.shramii.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.shramii.model.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Closes ACTIVE jobs whose deadline has passed. Expired ids are read from the
+ * (status, deadline) index and closed in bounded batches; the jobs each batch actually closed
+ * are announced with a {@link JobsClosedEvent} because bulk updates bypass the Mongo listeners.
+ */
+@Component
+public class JobExpirySweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobExpirySweeper.class);
+
+    private static final String LEASE = "job-expiry-sweeper";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private LeaseService leaseService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${job.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.expiry.max-batches:20}")
+    private int maxBatches;
+
+    @Value("${job.expiry.lease-ttl:5m}")
+    private Duration leaseTtl;
+
+    @Scheduled(initialDelayString = "${job.expiry.sweep-interval:60000}",
+            fixedDelayString = "${job.expiry.sweep-interval:60000}")
+    public void sweep() {
+        try {
+            if (!leaseService.tryAcquire(LEASE, leaseTtl)) {
+                return;
+            }
+            try {
+                int closed = closeExpired(new Date());
+                if (closed > 0) {
+                    logger.info("Closed {} expired jobs", closed);
+                }
+            } finally {
+                leaseService.release(LEASE);
+            }
+        } catch (Exception e) {
+            logger.error("Cannot sweep expired jobs: {}", e.getMessage());
+        }
+    }
+
+    // Anything beyond maxBatches waits for the next run, keeping each run short.
+    private int closeExpired(Date now) {
+        int closed = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Query expired = Query.query(Criteria.where("status").is(Job.Status.ACTIVE).and("deadline").lt(now))
+                    .with(Sort.by("deadline"))
+                    .limit(batchSize);
+            expired.fields().include("_id");
+            List<String> ids = mongoTemplate.find(expired, Job.class).stream().map(Job::getId).toList();
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            // Re-check the filter so a job edited since the read is left alone.
+            UpdateResult result = mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("_id").in(ids)
+                            .and("status").is(Job.Status.ACTIVE).and("deadline").lt(now)),
+                    Update.update("status", Job.Status.CLOSED),
+                    Job.class);
+            closed += (int) result.getModifiedCount();
+            if (result.getModifiedCount() > 0) {
+                eventPublisher.publishEvent(new JobsClosedEvent(closedAmong(ids)));
+            }
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return closed;
+    }
+
+    // May also return jobs someone else closed meanwhile; the event's consumers treat those as no-ops.
+    private List<String> closedAmong(List<String> ids) {
+        Query query = Query.query(Criteria.where("_id").in(ids).and("status").is(Job.Status.CLOSED));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Job.class).stream().map(Job::getId).toList();
+    }
+}
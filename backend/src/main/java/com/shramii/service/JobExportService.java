@@ -0,0 +1,127 @@
+package com.shramii.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shramii.model.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes an employer's jobs straight from a Mongo cursor to the response stream. Only
+ * one cursor batch is held at a time, and a slow client simply blocks the writer, so
+ * memory stays flat however many jobs the employer has.
+ */
+@Service
+public class JobExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobExportService.class);
+
+    // Same column names as the CSV import, plus the fields only the server sets.
+    private static final List<String> CSV_COLUMNS = List.of(
+            "id", "title", "description", "location", "minSalary", "maxSalary", "currency", "skills",
+            "experience", "education", "jobType", "employmentType", "benefits", "contactEmail",
+            "contactPhone", "deadline", "status", "views", "applications", "postedAt");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobCounterService jobCounterService;
+
+    @Value("${job.export.cursor-batch-size:200}")
+    private int cursorBatchSize;
+
+    public void export(String employerId, JobDataFormat format, OutputStream out) throws IOException {
+        Query query = Query.query(Criteria.where("employerId").is(employerId))
+                .with(Sort.by(Sort.Direction.DESC, "postedAt"))
+                .cursorBatchSize(cursorBatchSize);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long exported = 0;
+        if (format == JobDataFormat.CSV) {
+            writeCsvRow(writer, CSV_COLUMNS);
+        }
+        try (Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+            Iterator<Job> cursor = jobs.iterator();
+            while (cursor.hasNext()) {
+                Job job = jobCounterService.withPendingCounts(cursor.next());
+                if (format == JobDataFormat.CSV) {
+                    writeCsvRow(writer, csvValues(job));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(job));
+                    writer.write('\n');
+                }
+                exported++;
+            }
+        }
+        writer.flush();
+        logger.debug("Exported {} jobs for employer {}", exported, employerId);
+    }
+
+    private static List<String> csvValues(Job job) {
+        return List.of(
+                text(job.getId()), text(job.getTitle()), text(job.getDescription()), text(job.getLocation()),
+                number(job.getMinSalary()), number(job.getMaxSalary()), text(job.getCurrency()),
+                list(job.getSkills()), text(job.getExperience()), text(job.getEducation()),
+                text(job.getJobType()), text(job.getEmploymentType()), list(job.getBenefits()),
+                text(job.getContactEmail()), text(job.getContactPhone()), date(job.getDeadline()),
+                text(job.getStatus()), Integer.toString(job.getViews()), Integer.toString(job.getApplications()),
+                job.getPostedAt() != null ? job.getPostedAt().toInstant().toString() : "");
+    }
+
+    private static void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values.get(i);
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String number(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    private static String list(List<String> values) {
+        return values != null ? String.join(";", values) : "";
+    }
+
+    // Deadlines are imported as calendar dates, so export them the same way.
+    private static String date(Date value) {
+        return value != null ? value.toInstant().atZone(ZoneOffset.UTC).toLocalDate().toString() : "";
+    }
+}
@@ -0,0 +1,373 @@
+package com.shramii.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shramii.dto.ImportReport;
+import com.shramii.model.Job;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams a bulk job upload into Mongo. Records are parsed one at a time from the
+ * request body and inserted in fixed-size batches, so memory stays bounded by the batch
+ * size and the error cap no matter how large the upload is.
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobImportService.class);
+
+    private static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${job.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.import.max-errors:1000}")
+    private int maxErrors;
+
+    public ImportReport importJobs(InputStream body, JobDataFormat format, String employerId) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ImportRun run = new ImportRun(employerId);
+        if (format == JobDataFormat.CSV) {
+            importCsv(reader, run);
+        } else {
+            importNdjson(reader, run);
+        }
+        run.flush();
+        logger.info("Imported {} of {} jobs for employer {}", run.report.getImported(),
+                run.report.getReceived(), employerId);
+        return run.report;
+    }
+
+    private void importNdjson(Reader reader, ImportRun run) throws IOException {
+        RecordReader records = new RecordReader(reader);
+        String line;
+        while ((line = records.nextLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long record = run.receive();
+            if (records.truncated) {
+                run.reject(record, "Record longer than " + MAX_RECORD_CHARS + " characters");
+                continue;
+            }
+            try {
+                run.accept(record, objectMapper.readValue(line, Job.class));
+            } catch (JsonProcessingException e) {
+                run.reject(record, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void importCsv(Reader reader, ImportRun run) throws IOException {
+        RecordReader records = new RecordReader(reader);
+        List<String> header = records.nextCsvRow();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> row;
+        while ((row = records.nextCsvRow()) != null) {
+            if (row.size() == 1 && row.get(0).isBlank()) {
+                continue;
+            }
+            long record = run.receive();
+            if (records.truncated) {
+                run.reject(record, "Record longer than " + MAX_RECORD_CHARS + " characters");
+                continue;
+            }
+            try {
+                run.accept(record, fromCsv(columns, row));
+            } catch (IllegalArgumentException e) {
+                run.reject(record, e.getMessage());
+            }
+        }
+    }
+
+    private static Job fromCsv(Map<String, Integer> columns, List<String> row) {
+        CsvRow values = new CsvRow(columns, row);
+        Job job = new Job();
+        job.setTitle(values.text("title"));
+        job.setDescription(values.text("description"));
+        job.setLocation(values.text("location"));
+        job.setMinSalary(values.number("minsalary"));
+        job.setMaxSalary(values.number("maxsalary"));
+        job.setCurrency(values.text("currency"));
+        job.setSkills(values.list("skills"));
+        job.setExperience(values.text("experience"));
+        job.setEducation(values.text("education"));
+        job.setJobType(values.constant("jobtype", Job.JobType.class));
+        job.setEmploymentType(values.constant("employmenttype", Job.EmploymentType.class));
+        job.setBenefits(values.list("benefits"));
+        job.setContactEmail(values.text("contactemail"));
+        job.setContactPhone(values.text("contactphone"));
+        job.setDeadline(values.date("deadline"));
+        return job;
+    }
+
+    private static String validate(Job job) {
+        if (job.getTitle() == null || job.getTitle().isBlank()) {
+            return "Title is required";
+        }
+        if (job.getLocation() == null || job.getLocation().isBlank()) {
+            return "Location is required";
+        }
+        if (job.getMinSalary() < 0 || job.getMaxSalary() < 0) {
+            return "Salary cannot be negative";
+        }
+        if (job.getMaxSalary() > 0 && job.getMaxSalary() < job.getMinSalary()) {
+            return "maxSalary is below minSalary";
+        }
+        return null;
+    }
+
+    /**
+     * State of one upload: the pending batch, the record numbers in it and the report.
+     */
+    private final class ImportRun {
+
+        private final String employerId;
+        private final Date postedAt = new Date();
+        private final ImportReport report = new ImportReport();
+        private final List<Job> batch = new ArrayList<>(batchSize);
+        private final List<Long> batchRecords = new ArrayList<>(batchSize);
+
+        ImportRun(String employerId) {
+            this.employerId = employerId;
+        }
+
+        long receive() {
+            report.setReceived(report.getReceived() + 1);
+            return report.getReceived();
+        }
+
+        void accept(long record, Job job) {
+            String error = validate(job);
+            if (error != null) {
+                reject(record, error);
+                return;
+            }
+            // Ids are assigned up front so a retried batch can tell which records already landed.
+            job.setId(new ObjectId().toHexString());
+            if (employerId != null) {
+                job.setEmployerId(employerId);
+            }
+            job.setPostedAt(postedAt);
+            job.setStatus(Job.Status.ACTIVE);
+            job.setViews(0);
+            job.setApplications(0);
+
+            batch.add(job);
+            batchRecords.add(record);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long record, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < maxErrors) {
+                report.getErrors().add(new ImportReport.RecordError(record, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                mongoTemplate.insert(batch, Job.class);
+                report.setImported(report.getImported() + batch.size());
+            } catch (Exception e) {
+                // Retry one by one so a bad record only fails itself, not its whole batch.
+                logger.warn("Batch insert failed, retrying individually: {}", e.getMessage());
+                for (int i = 0; i < batch.size(); i++) {
+                    Job job = batch.get(i);
+                    try {
+                        mongoTemplate.insert(job);
+                        report.setImported(report.getImported() + 1);
+                    } catch (DuplicateKeyException alreadyInserted) {
+                        report.setImported(report.getImported() + 1);
+                    } catch (Exception recordError) {
+                        reject(batchRecords.get(i), "Insert failed: " + recordError.getMessage());
+                    }
+                }
+            }
+            batch.clear();
+            batchRecords.clear();
+        }
+    }
+
+    /**
+     * Reads NDJSON lines or RFC 4180 CSV rows without ever holding more than one record.
+     * Records over {@link #MAX_RECORD_CHARS} are skipped and flagged via {@code truncated}.
+     */
+    private static final class RecordReader {
+
+        private final Reader in;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean truncated;
+
+        RecordReader(Reader in) {
+            this.in = in;
+        }
+
+        String nextLine() throws IOException {
+            buffer.setLength(0);
+            truncated = false;
+            int c = in.read();
+            if (c < 0) {
+                return null;
+            }
+            while (c >= 0 && c != '\n') {
+                append(c);
+                c = in.read();
+            }
+            int end = buffer.length();
+            if (end > 0 && buffer.charAt(end - 1) == '\r') {
+                buffer.setLength(end - 1);
+            }
+            return buffer.toString();
+        }
+
+        List<String> nextCsvRow() throws IOException {
+            truncated = false;
+            int c = in.read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            buffer.setLength(0);
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        break;
+                    }
+                    if (c == '"') {
+                        int next = in.read();
+                        if (next == '"') {
+                            append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        append(c);
+                    }
+                } else if (c < 0 || c == '\n') {
+                    break;
+                } else if (c == '"' && buffer.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(buffer.toString());
+                    buffer.setLength(0);
+                } else if (c != '\r') {
+                    append(c);
+                }
+                c = in.read();
+            }
+            fields.add(buffer.toString());
+            return fields;
+        }
+
+        private void append(int c) {
+            if (buffer.length() < MAX_RECORD_CHARS) {
+                buffer.append((char) c);
+            } else {
+                truncated = true;
+            }
+        }
+    }
+
+    private record CsvRow(Map<String, Integer> columns, List<String> values) {
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        double number(String column) {
+            String value = text(column);
+            if (value == null) {
+                return 0;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+
+        List<String> list(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            return Arrays.stream(value.split(";")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        }
+
+        <E extends Enum<E>> E constant(String column, Class<E> type) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+
+        Date date(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Date.from(LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.shramii.service;
+
+import com.shramii.model.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobStatsListener extends AbstractMongoEventListener<Job> {
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Job> event) {
+        platformStatsService.onJobSaved(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Job> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            platformStatsService.onJobRemoved(id.toString());
+        }
+    }
+
+    @EventListener
+    public void onJobsClosed(JobsClosedEvent event) {
+        event.jobIds().forEach(platformStatsService::onJobRemoved);
+    }
+}
@@ -0,0 +1,9 @@
+package com.shramii.service;
+
+import java.util.Collection;
+
+/**
+ * Published after jobs are closed by a bulk update, which Mongo mapping events do not
+ * report. Listeners that track ACTIVE jobs should drop these ids.
+ */
+public record JobsClosedEvent(Collection<String> jobIds) {}
@@ -0,0 +1,69 @@
+package com.shramii.service;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Time-bounded named leases stored in Mongo, so a scheduled task runs on one node at a
+ * time. A lease is taken when it is free, expired or already ours; a node that dies while
+ * holding one only blocks the task until the lease expires.
+ */
+@Service
+public class LeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaseService.class);
+
+    private static final String COLLECTION = "leases";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final String owner = hostName() + ":" + UUID.randomUUID();
+
+    public boolean tryAcquire(String name, Duration ttl) {
+        Date now = new Date();
+        Query query = Query.query(Criteria.where("_id").is(name)
+                .orOperator(Criteria.where("expiresAt").lt(now), Criteria.where("owner").is(owner)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("expiresAt", new Date(now.getTime() + ttl.toMillis()));
+        try {
+            // Upsert inserts when no lease exists; if another node holds it, the insert hits _id and fails.
+            mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").is(name).and("owner").is(owner)), COLLECTION);
+        } catch (Exception e) {
+            logger.warn("Cannot release lease {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
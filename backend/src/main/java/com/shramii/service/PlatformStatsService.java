@@ -0,0 +1,162 @@
+package com.shramii.service;
+
+import com.shramii.model.Job;
+import com.shramii.model.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live platform counters for the home page. Saves and deletes adjust the counters
+ * incrementally by diffing against the last known state of each document; a periodic
+ * reconciliation reloads that state from Mongo so counters cannot drift.
+ */
+@Service
+public class PlatformStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlatformStatsService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // Lazy: JobCounterService reports each submission here, so the two depend on each other.
+    @Lazy
+    @Autowired
+    private JobCounterService jobCounterService;
+
+    // Type slot of every ACTIVE job as last seen; absent means the job is not counted.
+    private final ConcurrentHashMap<String, Integer> activeJobs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Boolean> activeWorkers = new ConcurrentHashMap<>();
+    private final AtomicLongArray jobsByType = new AtomicLongArray(Job.JobType.values().length + 1);
+    private final LongAdder applications = new LongAdder();
+
+    public long getActiveWorkers() {
+        return activeWorkers.size();
+    }
+
+    public long getActiveJobs() {
+        return activeJobs.size();
+    }
+
+    public long getApplications() {
+        return applications.sum();
+    }
+
+    public Map<Job.JobType, Long> getActiveJobsByType() {
+        Map<Job.JobType, Long> counts = new EnumMap<>(Job.JobType.class);
+        for (Job.JobType type : Job.JobType.values()) {
+            counts.put(type, jobsByType.get(slot(type)));
+        }
+        return counts;
+    }
+
+    public void onJobSaved(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.getStatus() == Job.Status.ACTIVE) {
+            int slot = slot(job.getJobType());
+            Integer previous = activeJobs.put(job.getId(), slot);
+            if (previous == null || previous != slot) {
+                if (previous != null) {
+                    jobsByType.decrementAndGet(previous);
+                }
+                jobsByType.incrementAndGet(slot);
+            }
+        } else {
+            onJobRemoved(job.getId());
+        }
+    }
+
+    public void onJobRemoved(String jobId) {
+        Integer previous = activeJobs.remove(jobId);
+        if (previous != null) {
+            jobsByType.decrementAndGet(previous);
+        }
+    }
+
+    public void onUserSaved(User user) {
+        if (user.getId() == null) {
+            return;
+        }
+        if (user.getRole() == User.Role.WORKER && user.isActive()) {
+            activeWorkers.put(user.getId(), Boolean.TRUE);
+        } else {
+            activeWorkers.remove(user.getId());
+        }
+    }
+
+    public void onUserRemoved(String userId) {
+        activeWorkers.remove(userId);
+    }
+
+    public void onApplicationSubmitted() {
+        applications.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${stats.reconcile-interval:600000}",
+            fixedDelayString = "${stats.reconcile-interval:600000}")
+    public synchronized void reconcile() {
+        try {
+            Query jobQuery = Query.query(Criteria.where("status").is(Job.Status.ACTIVE));
+            jobQuery.fields().include("jobType");
+            Map<String, Integer> jobs = new HashMap<>();
+            for (Job job : mongoTemplate.find(jobQuery, Job.class)) {
+                jobs.put(job.getId(), slot(job.getJobType()));
+            }
+
+            Query workerQuery = Query.query(Criteria.where("role").is(User.Role.WORKER).and("isActive").is(true));
+            workerQuery.fields().include("_id");
+            Map<String, Boolean> workers = new HashMap<>();
+            for (User worker : mongoTemplate.find(workerQuery, User.class)) {
+                workers.put(worker.getId(), Boolean.TRUE);
+            }
+
+            // Submissions still waiting in the write-behind counters are already in our adder but not in Mongo.
+            long applicationTotal = jobCounterService.applicationsIncludingPending(() -> {
+                Aggregation sum = Aggregation.newAggregation(Aggregation.group().sum("applications").as("total"));
+                Document totals = mongoTemplate.aggregate(sum, Job.class, Document.class).getUniqueMappedResult();
+                return totals != null ? ((Number) totals.get("total")).longValue() : 0L;
+            });
+
+            activeJobs.keySet().retainAll(jobs.keySet());
+            activeJobs.putAll(jobs);
+            for (int i = 0; i < jobsByType.length(); i++) {
+                jobsByType.set(i, 0);
+            }
+            activeJobs.values().forEach(jobsByType::incrementAndGet);
+
+            activeWorkers.keySet().retainAll(workers.keySet());
+            activeWorkers.putAll(workers);
+
+            applications.add(applicationTotal - applications.sum());
+            logger.debug("Reconciled stats: {} active jobs, {} active workers, {} applications",
+                    activeJobs.size(), activeWorkers.size(), applicationTotal);
+        } catch (Exception e) {
+            logger.error("Cannot reconcile platform stats: {}", e.getMessage());
+        }
+    }
+
+    // Jobs without a type get the extra last slot so they still count as active.
+    private static int slot(Job.JobType type) {
+        return type == null ? Job.JobType.values().length : type.ordinal();
+    }
+}
@@ -0,0 +1,203 @@
+package com.shramii.service;
+
+import com.shramii.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over every username and email in use, so registration can skip the
+ * existence queries for names that are certainly free. A "maybe taken" answer falls back
+ * to the queries, and the unique indexes on users still reject races and names taken on
+ * other nodes since the last rebuild. Names of deleted users stay set until the next
+ * periodic rebuild, which only costs an extra query for them.
+ */
+@Service
+public class TakenNameFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TakenNameFilter.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.name-filter.expected-names:2000000}")
+    private long expectedNames;
+
+    @Value("${auth.name-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile Bits bits;
+
+    // Receives concurrent additions while a rebuild is scanning the collection.
+    private volatile Bits rebuilding;
+
+    private Counter free;
+
+    private Counter maybeTaken;
+
+    @PostConstruct
+    void init() {
+        free = Counter.builder("registration.name.filter").tag("result", "free").register(meterRegistry);
+        maybeTaken = Counter.builder("registration.name.filter").tag("result", "maybe").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${auth.name-filter.rebuild-interval:21600000}",
+            fixedDelayString = "${auth.name-filter.rebuild-interval:21600000}")
+    public void rebuild() {
+        Bits fresh = Bits.sized(expectedNames, falsePositiveRate);
+        rebuilding = fresh;
+        try {
+            Query query = new Query();
+            query.fields().include("username").include("email");
+            long users = 0;
+            try (Stream<User> stream = mongoTemplate.stream(query, User.class)) {
+                for (User user : (Iterable<User>) stream::iterator) {
+                    addTo(fresh, user);
+                    users++;
+                }
+            }
+            bits = fresh;
+            logger.info("Loaded {} users into the taken-name filter ({} KB)", users, fresh.sizeInBytes() / 1024);
+        } catch (Exception e) {
+            logger.error("Cannot load taken-name filter: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    public void add(User user) {
+        // Read the rebuild target first: rebuild() publishes the new filter before clearing it.
+        Bits next = rebuilding;
+        if (next != null) {
+            addTo(next, user);
+        }
+        Bits current = bits;
+        if (current != null) {
+            addTo(current, user);
+        }
+    }
+
+    /**
+     * False only when neither name can be in use. Before the first load everything is
+     * reported as possibly taken.
+     */
+    public boolean mightBeTaken(String username, String email) {
+        Bits current = bits;
+        boolean maybe = current == null
+                || current.mightContain(usernameKey(username))
+                || current.mightContain(emailKey(email));
+        (maybe ? maybeTaken : free).increment();
+        return maybe;
+    }
+
+    private static void addTo(Bits target, User user) {
+        if (user.getUsername() != null) {
+            target.add(usernameKey(user.getUsername()));
+        }
+        if (user.getEmail() != null) {
+            target.add(emailKey(user.getEmail()));
+        }
+    }
+
+    // Lower-cased so the filter never misses a name that differs from the stored one only in case.
+    private static String usernameKey(String username) {
+        return "u:" + (username != null ? username.toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + (email != null ? email.toLowerCase(Locale.ROOT) : "");
+    }
+
+    /**
+     * Lock-free bit array with k probes derived from one 64-bit hash (Kirsch-Mitzenmacher).
+     */
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashes;
+
+        private Bits(long bitCount, int hashes) {
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bitCount + 63) >>> 6);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = (long) wordCount << 6;
+            this.hashes = hashes;
+        }
+
+        static Bits sized(long expected, double falsePositiveRate) {
+            long n = Math.max(1, expected);
+            long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+            return new Bits(bits, hashes);
+        }
+
+        void add(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                int word = (int) (bit >>> 6);
+                long current = words.get(word);
+                while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                    current = words.get(word);
+                }
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long bit = index(h1 + i * h2);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long sizeInBytes() {
+            return bitCount >>> 3;
+        }
+
+        private long index(int combined) {
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+
+        // FNV-1a over the UTF-16 units, finished with the MurmurHash3 64-bit mixer.
+        private static long hash(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.shramii.service;
+
+import com.shramii.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TakenNameFilterListener extends AbstractMongoEventListener<User> {
+
+    @Autowired
+    private TakenNameFilter takenNameFilter;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        takenNameFilter.add(event.getSource());
+    }
+}
@@ -1,5 +1,5 @@
 import { User } from '../types/user';
-import { Job } from '../types/job';
+import { Job, JobSummary } from '../types/job';
 
 const API_BASE_URL = 'http://localhost:8080/api/v1';
 
@@ -74,7 +74,7 @@ class ApiService {
   }
 
   // Job APIs
-  async getJobs(page = 0, size = 10, sortBy = 'postedAt', sortDir = 'desc'): Promise<{ content: Job[]; totalElements: number; totalPages: number }> {
+  async getJobs(page = 0, size = 10, sortBy = 'postedAt', sortDir = 'desc'): Promise<{ content: JobSummary[]; totalElements: number; totalPages: number }> {
     const response = await fetch(
       `${API_BASE_URL}/jobs?page=${page}&size=${size}&sortBy=${sortBy}&sortDir=${sortDir}`,
       {
@@ -89,6 +89,22 @@ class ApiService {
     return response.json();
   }
 
+  async getJobFeed(cursor?: string, size = 10): Promise<{ content: JobSummary[]; nextCursor?: string; hasNext: boolean }> {
+    const params = new URLSearchParams({ size: String(size) });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    const response = await fetch(`${API_BASE_URL}/jobs/feed?${params}`, {
+      headers: this.getAuthHeaders(),
+    });
+
+    if (!response.ok) {
+      throw new Error('Failed to fetch jobs');
+    }
+
+    return response.json();
+  }
+
   async getJobById(id: string): Promise<Job> {
     const response = await fetch(`${API_BASE_URL}/jobs/${id}`, {
       headers: this.getAuthHeaders(),
@@ -21,3 +21,19 @@ export interface Job {
   postedAt: string;
   deadline: string;
 }
+
+export type JobSummary = Pick<
+  Job,
+  | 'id'
+  | 'title'
+  | 'employerId'
+  | 'location'
+  | 'minSalary'
+  | 'maxSalary'
+  | 'currency'
+  | 'skills'
+  | 'jobType'
+  | 'employmentType'
+  | 'postedAt'
+  | 'deadline'
+>;